@@ -0,0 +1,105 @@
+package com.bcp.training.client;
+
+import com.bcp.training.model.Expense;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coalesces concurrent create calls into one POST /expenses/batch request.
+ * A batch is sent when it reaches the maximum size or when the window that
+ * started with its first expense elapses, whichever comes first.
+ */
+@ApplicationScoped
+public class ExpenseCreateBatcher {
+
+    @Inject
+    @RestClient
+    ExpenseServiceClient service;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "expense-client.batch.window", defaultValue = "5ms")
+    Duration window;
+
+    @ConfigProperty(name = "expense-client.batch.max-size", defaultValue = "100")
+    int maxSize;
+
+    private List<Pending> pending = new ArrayList<>();
+    private boolean timerArmed;
+
+    public Uni<Expense> create(Expense expense) {
+        return Uni.createFrom().emitter(emitter -> enqueue(new Pending(expense, emitter)));
+    }
+
+    private void enqueue(Pending next) {
+        List<Pending> ready = null;
+
+        synchronized (this) {
+            pending.add(next);
+            if (pending.size() >= maxSize) {
+                ready = pending;
+                pending = new ArrayList<>();
+            } else if (!timerArmed) {
+                timerArmed = true;
+                vertx.setTimer(Math.max(1, window.toMillis()), id -> flushWindow());
+            }
+        }
+
+        if (ready != null) {
+            send(ready);
+        }
+    }
+
+    private void flushWindow() {
+        List<Pending> ready;
+
+        synchronized (this) {
+            timerArmed = false;
+            ready = pending;
+            pending = new ArrayList<>();
+        }
+
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        service.createAll(batch.stream().map(Pending::expense).toList())
+                .subscribe().with(created -> complete(batch, created), failure -> fail(batch, failure));
+    }
+
+    // Every caller of the batch must get an answer, otherwise it waits forever
+    private static void complete(List<Pending> batch, List<Expense> created) {
+        if (created == null || created.size() != batch.size()) {
+            fail(batch, new IllegalStateException("Sent " + batch.size() + " expenses but "
+                    + (created == null ? 0 : created.size()) + " were returned"));
+            return;
+        }
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).emitter().complete(created.get(i));
+            }
+        } catch (RuntimeException e) {
+            // Emitters already completed ignore the failure
+            fail(batch, e);
+        }
+    }
+
+    private static void fail(List<Pending> batch, Throwable failure) {
+        batch.forEach(p -> p.emitter().fail(failure));
+    }
+
+    private record Pending(Expense expense, UniEmitter<? super Expense> emitter) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.bcp.training.client;
+
+import com.bcp.training.model.Expense;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.util.Set;
+
+/**
+ * Keeps the last expense listing together with its ETag and revalidates it
+ * with If-None-Match, so a 304 from the expense-service is answered from memory.
+ */
+@ApplicationScoped
+public class ExpenseListCache {
+
+    private static final GenericType<Set<Expense>> EXPENSES = new GenericType<>() {
+    };
+
+    @Inject
+    @RestClient
+    ExpenseServiceClient service;
+
+    @Inject
+    MeterRegistry registry;
+
+    private volatile Entry entry;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void initMeters() {
+        hits = registry.counter("expenseListCacheHits");
+        misses = registry.counter("expenseListCacheMisses");
+        registry.gauge(
+                "expenseListCacheHitRatio",
+                Tags.of("description", "Share of GET /expenses answered with 304 Not Modified"),
+                this,
+                ExpenseListCache::hitRatio
+        );
+    }
+
+    public Uni<Set<Expense>> getAll() {
+        Entry cached = entry;
+        return service.getAllIfNoneMatch(cached == null ? null : cached.etag().toString())
+                .map(response -> {
+                    try {
+                        return resolve(cached, response);
+                    } finally {
+                        response.close();
+                    }
+                });
+    }
+
+    private Set<Expense> resolve(Entry cached, Response response) {
+        if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            hits.increment();
+            return cached.expenses();
+        }
+        misses.increment();
+
+        Set<Expense> expenses = Set.copyOf(response.readEntity(EXPENSES));
+        EntityTag etag = response.getEntityTag();
+        entry = etag == null ? null : new Entry(etag, expenses);
+        return expenses;
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Entry(EntityTag etag, Set<Expense> expenses) {
+    }
+}
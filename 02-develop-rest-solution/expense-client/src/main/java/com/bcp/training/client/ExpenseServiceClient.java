@@ -1,16 +1,25 @@
 package com.bcp.training.client;
 
 import com.bcp.training.model.Expense;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 
+import java.util.List;
 import java.util.Set;
 
 @Path("/expenses")
 @RegisterRestClient(configKey = "expense-service")
+@Consumes(CborProvider.APPLICATION_CBOR)
+@Produces(CborProvider.APPLICATION_CBOR)
 public interface ExpenseServiceClient {
 
     @GET
@@ -18,5 +27,17 @@ public interface ExpenseServiceClient {
 
     @POST
     Expense create(Expense expense);
-}
 
+    @GET
+    Uni<Set<Expense>> getAllAsync();
+
+    @GET
+    Uni<Response> getAllIfNoneMatch(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String etag);
+
+    @POST
+    Uni<Expense> createAsync(Expense expense);
+
+    @POST
+    @Path("/batch")
+    Uni<List<Expense>> createAll(List<Expense> expenses);
+}
@@ -1,10 +1,14 @@
 package com.bcp.training.service;
 
+import com.bcp.training.client.ExpenseCreateBatcher;
+import com.bcp.training.client.ExpenseListCache;
 import com.bcp.training.client.ExpenseServiceClient;
 import com.bcp.training.model.Expense;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 
@@ -20,13 +24,25 @@ public class ClientResource {
     @RestClient
     ExpenseServiceClient service;
 
+    @Inject
+    ExpenseCreateBatcher batcher;
+
+    @Inject
+    ExpenseListCache cache;
+
+    @ConfigProperty(name = "expense-client.batch.enabled", defaultValue = "false")
+    boolean batchEnabled;
+
+    @ConfigProperty(name = "expense-client.cache.enabled", defaultValue = "true")
+    boolean cacheEnabled;
+
     @GET
-    public Set<Expense> getAll() {
-        return service.getAll();
+    public Uni<Set<Expense>> getAll() {
+        return cacheEnabled ? cache.getAll() : service.getAllAsync();
     }
 
     @POST
-    public Expense create(Expense expense) {
-        return service.create(expense);
+    public Uni<Expense> create(Expense expense) {
+        return batchEnabled ? batcher.create(expense) : service.createAsync(expense);
     }
 }
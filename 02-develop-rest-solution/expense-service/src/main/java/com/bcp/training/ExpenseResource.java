@@ -1,5 +1,6 @@
 package com.bcp.training;
 
+import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -8,25 +9,86 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Path("/expenses")
-@Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Consumes({MediaType.APPLICATION_JSON, CborProvider.APPLICATION_CBOR})
+@Produces({MediaType.APPLICATION_JSON, CborProvider.APPLICATION_CBOR})
 public class ExpenseResource {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Inject
     public ExpenseService expenseService;
 
 
     @GET
-    public Set<Expense> list() {
-        return expenseService.list();
+    public Response list(@QueryParam("after") UUID after,
+                         @QueryParam("limit") Integer limit,
+                         @Context Request request) {
+        if (after == null && limit == null) {
+            return listIfModified(request);
+        }
+        if (limit == null) {
+            limit = DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+        return Response.ok(expenseService.page(after, limit)).build();
+    }
+
+    private Response listIfModified(Request request) {
+        ExpenseService.Revision revision = expenseService.revision();
+        EntityTag etag = new EntityTag(revision.tag());
+
+        // No Last-Modified: its one second precision would answer 304 for writes within the same second
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.tag(etag).build();
+        }
+        return Response.ok(expenseService.list())
+                .tag(etag)
+                .build();
+    }
+
+
+    @GET
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<Expense> stream() {
+        return Multi.createFrom().iterable(expenseService.list());
+    }
+
+
+    @GET
+    @Path("/payment-method/{paymentMethod}")
+    public List<Expense> listByPaymentMethod(Expense.PaymentMethod paymentMethod) {
+        return expenseService.findByPaymentMethod(paymentMethod);
+    }
+
+
+    @GET
+    @Path("/created")
+    public List<Expense> listByCreationDate(@QueryParam("from") LocalDateTime from,
+                                            @QueryParam("to") LocalDateTime to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+        return expenseService.findByCreationDate(from, to);
     }
 
 
@@ -36,9 +98,16 @@ public class ExpenseResource {
     }
 
 
+    @POST
+    @Path("/batch")
+    public List<Expense> createAll(List<Expense> expenses) {
+        return expenseService.createAll(expenses);
+    }
+
+
     @DELETE
     @Path("/{uuid}")
-    public Set<Expense> delete(UUID uuid) {
+    public List<Expense> delete(UUID uuid) {
         if (!expenseService.delete(uuid)) {
             throw new WebApplicationException(Response.Status.NOT_FOUND);
         }
@@ -2,40 +2,154 @@ package com.bcp.training;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @ApplicationScoped
 public class ExpenseService {
-    private Set<Expense> expenses = Collections.newSetFromMap(Collections.synchronizedMap(new HashMap<>()));
+    private static final UUID LOWEST_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final Map<UUID, Expense> expenses = new ConcurrentHashMap<>();
+
+    // Secondary indexes, only mutated from inside the compute of the owning uuid
+    private final NavigableSet<UUID> byUuid = new ConcurrentSkipListSet<>();
+    private final Map<Expense.PaymentMethod, Set<UUID>> byPaymentMethod = new ConcurrentHashMap<>();
+    private final NavigableSet<Expense> byCreationDate = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Expense::getCreationDate).thenComparing(Expense::getUuid));
+
+    // Bumped after every mutation, so a revision never describes data older than what it was read with
+    private final AtomicReference<Revision> revision = new AtomicReference<>(
+            new Revision(System.currentTimeMillis(), 0));
+
+    // The epoch keeps tags from a previous run of the service from matching after a restart
+    public record Revision(long epoch, long version) {
+
+        public String tag() {
+            return Long.toHexString(epoch) + "-" + version;
+        }
+    }
 
     @PostConstruct
     void init(){
-        expenses.add(new Expense("Quarkus for Spring Developers", Expense.PaymentMethod.DEBIT_CARD, "10.00"));
-        expenses.add(new Expense("OpenShift for Developers", Expense.PaymentMethod.CREDIT_CARD, "15.00"));
+        create(new Expense("Quarkus for Spring Developers", Expense.PaymentMethod.DEBIT_CARD, "10.00"));
+        create(new Expense("OpenShift for Developers", Expense.PaymentMethod.CREDIT_CARD, "15.00"));
     }
 
-    public Set<Expense> list() {
-        return expenses;
+    public Revision revision() {
+        return revision.get();
+    }
+
+    public List<Expense> list() {
+        return List.copyOf(expenses.values());
+    }
+
+    public List<Expense> page(UUID after, int limit) {
+        NavigableSet<UUID> remaining = after == null ? byUuid : byUuid.tailSet(after, false);
+        return remaining.stream()
+                .map(expenses::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
     }
 
     public Expense create(Expense expense) {
-        expenses.add(expense);
+        if (expense.getUuid() == null) {
+            expense.setUuid(UUID.randomUUID());
+        }
+        expenses.compute(expense.getUuid(), (uuid, previous) -> {
+            unindex(previous);
+            index(expense);
+            return expense;
+        });
+        bumpRevision();
         return expense;
     }
 
+    public List<Expense> createAll(List<Expense> newExpenses) {
+        newExpenses.forEach(this::create);
+        return newExpenses;
+    }
+
     public boolean delete(UUID uuid) {
-        return expenses.removeIf(expense -> expense.getUuid().equals(uuid));
+        AtomicBoolean removed = new AtomicBoolean();
+        expenses.computeIfPresent(uuid, (id, current) -> {
+            unindex(current);
+            removed.set(true);
+            return null;
+        });
+        if (removed.get()) {
+            bumpRevision();
+        }
+        return removed.get();
     }
 
     public void update(Expense expense) {
-        delete(expense.getUuid());
         create(expense);
     }
 
     public boolean exists(UUID uuid) {
-        return expenses.stream().anyMatch(exp -> exp.getUuid().equals(uuid));
+        return expenses.containsKey(uuid);
+    }
+
+    public List<Expense> findByPaymentMethod(Expense.PaymentMethod paymentMethod) {
+        return byPaymentMethod.getOrDefault(paymentMethod, Set.of()).stream()
+                .map(expenses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<Expense> findByCreationDate(LocalDateTime from, LocalDateTime to) {
+        return List.copyOf(byCreationDate.subSet(probe(from), true, probe(to), false));
+    }
+
+    private void bumpRevision() {
+        revision.updateAndGet(current -> new Revision(current.epoch(), current.version() + 1));
+    }
+
+    private void index(Expense expense) {
+        byUuid.add(expense.getUuid());
+        if (expense.getPaymentMethod() != null) {
+            byPaymentMethod.compute(expense.getPaymentMethod(), (key, uuids) -> {
+                Set<UUID> result = uuids == null ? ConcurrentHashMap.newKeySet() : uuids;
+                result.add(expense.getUuid());
+                return result;
+            });
+        }
+        if (expense.getCreationDate() != null) {
+            byCreationDate.add(expense);
+        }
+    }
+
+    private void unindex(Expense expense) {
+        if (expense == null) {
+            return;
+        }
+        byUuid.remove(expense.getUuid());
+        if (expense.getPaymentMethod() != null) {
+            byPaymentMethod.computeIfPresent(expense.getPaymentMethod(), (key, uuids) -> {
+                uuids.remove(expense.getUuid());
+                return uuids.isEmpty() ? null : uuids;
+            });
+        }
+        if (expense.getCreationDate() != null) {
+            byCreationDate.remove(expense);
+        }
+    }
+
+    private static Expense probe(LocalDateTime creationDate) {
+        Expense probe = new Expense();
+        probe.setUuid(LOWEST_UUID);
+        probe.setCreationDate(creationDate);
+        return probe;
     }
-}
\ No newline at end of file
+}
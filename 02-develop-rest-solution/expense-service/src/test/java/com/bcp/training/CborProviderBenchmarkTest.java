@@ -0,0 +1,113 @@
+package com.bcp.training;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the size and the encoding and decoding time of expense listings written as JSON
+ * and through CborProvider.
+ * Run with {@code mvn test -Dtest=CborProviderBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CborProviderBenchmarkTest {
+
+    private static final int ROUNDS = 10;
+    private static final Type EXPENSES = new GenericType<List<Expense>>() {
+    }.getType();
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final MediaType CBOR = MediaType.valueOf(CborProvider.APPLICATION_CBOR);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    public void benchmarkSerialization(int size) throws IOException {
+        List<Expense> expenses = new ArrayList<>(size);
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            expenses.add(new Expense(UUID.randomUUID(), "Expense " + i, created.plusMinutes(i),
+                    Expense.PaymentMethod.values()[i % 3], (i % 1000) + "." + (i % 100)));
+        }
+
+        // The Quarkus ObjectMapper defaults: java.time support and ISO dates
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CborProvider cbor = new CborProvider(json);
+
+        Codec jsonCodec = new Codec() {
+            public byte[] write(List<Expense> value) throws IOException {
+                return json.writeValueAsBytes(value);
+            }
+
+            public List<Expense> read(byte[] bytes) throws IOException {
+                return json.readValue(bytes, json.constructType(EXPENSES));
+            }
+        };
+        Codec cborCodec = new Codec() {
+            public byte[] write(List<Expense> value) throws IOException {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                cbor.writeTo(value, List.class, EXPENSES, NO_ANNOTATIONS, CBOR, null, out);
+                return out.toByteArray();
+            }
+
+            @SuppressWarnings("unchecked")
+            public List<Expense> read(byte[] bytes) throws IOException {
+                return (List<Expense>) cbor.readFrom(Object.class, EXPENSES, NO_ANNOTATIONS, CBOR, null,
+                        new ByteArrayInputStream(bytes));
+            }
+        };
+
+        Result jsonResult = measure(jsonCodec, expenses);
+        Result cborResult = measure(cborCodec, expenses);
+
+        System.out.printf("%d expenses, best of %d:%n", size, ROUNDS);
+        System.out.printf("  json %10d bytes  write %6d us  read %6d us%n",
+                jsonResult.bytes(), jsonResult.writeMicros(), jsonResult.readMicros());
+        System.out.printf("  cbor %10d bytes  write %6d us  read %6d us%n",
+                cborResult.bytes(), cborResult.writeMicros(), cborResult.readMicros());
+    }
+
+    private static Result measure(Codec codec, List<Expense> expenses) throws IOException {
+        byte[] encoded = null;
+        long write = Long.MAX_VALUE;
+        long read = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            encoded = codec.write(expenses);
+            write = Math.min(write, System.nanoTime() - started);
+
+            started = System.nanoTime();
+            List<Expense> decoded = codec.read(encoded);
+            read = Math.min(read, System.nanoTime() - started);
+            assertEquals(expenses.size(), decoded.size());
+            assertEquals(expenses.get(expenses.size() - 1).getAmount(), decoded.get(decoded.size() - 1).getAmount());
+        }
+        return new Result(encoded.length, write / 1_000, read / 1_000);
+    }
+
+    private interface Codec {
+        byte[] write(List<Expense> value) throws IOException;
+
+        List<Expense> read(byte[] bytes) throws IOException;
+    }
+
+    private record Result(int bytes, long writeMicros, long readMicros) {
+    }
+}
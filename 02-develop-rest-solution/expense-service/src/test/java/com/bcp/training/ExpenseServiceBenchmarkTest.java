@@ -0,0 +1,121 @@
+package com.bcp.training;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the uuid-keyed ExpenseService with the synchronized set it replaced, looking up
+ * and replacing expenses from several threads at once.
+ * Run with {@code mvn test -Dtest=ExpenseServiceBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ExpenseServiceBenchmarkTest {
+
+    private static final int EXPENSES = 10_000;
+    private static final int OPERATIONS = 16_000;
+    private static final int ROUNDS = 3;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    public void benchmarkConcurrentAccess(int threads) throws Exception {
+        List<Expense> seed = new ArrayList<>();
+        for (int i = 0; i < EXPENSES; i++) {
+            seed.add(new Expense("Expense " + i, Expense.PaymentMethod.values()[i % 3], "10.00"));
+        }
+
+        long indexed = Long.MAX_VALUE;
+        long synchronizedSet = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            ExpenseService service = new ExpenseService();
+            seed.forEach(service::create);
+            indexed = Math.min(indexed, time(threads, seed, expense -> {
+                if (service.exists(expense.getUuid())) {
+                    service.update(copyOf(expense));
+                }
+            }));
+            assertEquals(EXPENSES, service.list().size());
+
+            SynchronizedSetExpenses baseline = new SynchronizedSetExpenses();
+            seed.forEach(baseline::create);
+            synchronizedSet = Math.min(synchronizedSet, time(threads, seed, expense -> {
+                if (baseline.exists(expense.getUuid())) {
+                    baseline.update(copyOf(expense));
+                }
+            }));
+            assertEquals(EXPENSES, baseline.expenses.size());
+        }
+
+        System.out.printf("%d expenses, %d exists + update on %d threads, best of %d:%n",
+                EXPENSES, OPERATIONS, threads, ROUNDS);
+        System.out.printf("  uuid-keyed map   %8d us%n", indexed);
+        System.out.printf("  synchronized set %8d us%n", synchronizedSet);
+    }
+
+    private static long time(int threads, List<Expense> seed, Consumer<Expense> operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            long started = System.nanoTime();
+            for (int thread = 0; thread < threads; thread++) {
+                int offset = thread;
+                running.add(executor.submit(() -> {
+                    for (int i = 0; i < OPERATIONS / threads; i++) {
+                        operation.accept(seed.get((offset * 7_919 + i * 31) % EXPENSES));
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+            return (System.nanoTime() - started) / 1_000;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Expense copyOf(Expense original) {
+        return new Expense(original.getUuid(), original.getName(), original.getCreationDate(),
+                original.getPaymentMethod(), original.getAmount().toPlainString());
+    }
+
+    // The store ExpenseService used before it was keyed by uuid, streaming a synchronized
+    // collection needs the lock held to not fail with a ConcurrentModificationException
+    private static class SynchronizedSetExpenses {
+        final Map<Expense, Boolean> lock = Collections.synchronizedMap(new HashMap<>());
+        final Set<Expense> expenses = Collections.newSetFromMap(lock);
+
+        void create(Expense expense) {
+            expenses.add(expense);
+        }
+
+        boolean delete(UUID uuid) {
+            return expenses.removeIf(expense -> expense.getUuid().equals(uuid));
+        }
+
+        void update(Expense expense) {
+            delete(expense.getUuid());
+            create(expense);
+        }
+
+        boolean exists(UUID uuid) {
+            synchronized (lock) {
+                return expenses.stream().anyMatch(exp -> exp.getUuid().equals(uuid));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bcp.training.model;
+
+import java.util.List;
+import java.util.ArrayList;
+
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbTransient;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.OneToMany;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+@Entity
+public class Associate extends PanacheEntity {
+    public String name;
+
+    @JsonbTransient
+    @OneToMany(mappedBy = "associate", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    public List<Expense> expenses = new ArrayList<>();
+
+    public Associate() {
+    }
+
+    public Associate(String name) {
+        this.name = name;
+    }
+
+    @JsonbCreator
+    public static Associate of(String name) {
+        return new Associate(name);
+    }
+}
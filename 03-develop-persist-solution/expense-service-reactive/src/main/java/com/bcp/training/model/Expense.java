@@ -0,0 +1,81 @@
+package com.bcp.training.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.json.bind.annotation.JsonbDateFormat;
+import jakarta.json.bind.annotation.JsonbTransient;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+import io.smallrye.mutiny.Uni;
+
+@Entity
+public class Expense extends PanacheEntity {
+
+    public enum PaymentMethod {
+        CASH, CREDIT_CARD, DEBIT_CARD,
+    }
+
+    @NotNull
+    public UUID uuid;
+    public String name;
+
+    @JsonbDateFormat(value = "yyyy-MM-dd HH:mm:ss")
+    public LocalDateTime creationDate;
+    public PaymentMethod paymentMethod;
+    public BigDecimal amount;
+
+    @JsonbTransient
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "associate_id", insertable = false, updatable = false)
+    public Associate associate;
+
+    @Column(name = "associate_id")
+    public Long associateId;
+
+    public Expense() {
+    }
+
+    public Expense(UUID uuid, String name, LocalDateTime creationDate,
+                   PaymentMethod paymentMethod, String amount, Associate associate) {
+        this.uuid = uuid;
+        this.name = name;
+        this.creationDate = creationDate;
+        this.paymentMethod = paymentMethod;
+        this.amount = new BigDecimal(amount);
+        this.associate = associate;
+        this.associateId = associate.id;
+    }
+
+    public Expense(String name, PaymentMethod paymentMethod, String amount, Associate associate) {
+        this(UUID.randomUUID(), name, LocalDateTime.now(), paymentMethod, amount, associate);
+    }
+
+    // Not a @JsonbCreator: the associate lookup is non-blocking and cannot run during deserialization
+    public static Uni<Expense> of(String name, PaymentMethod paymentMethod, String amount, Long associateId) {
+        return Associate.<Associate>findById(associateId)
+                .onItem().ifNull().failWith(() -> new WebApplicationException(Response.Status.NOT_FOUND))
+                .map(associate -> new Expense(name, paymentMethod, amount, associate));
+    }
+
+    public static Uni<Expense> update(final Expense expense) {
+        return Expense.<Expense>findById(expense.id)
+                .onItem().ifNull().failWith(() -> new WebApplicationException(Response.Status.NOT_FOUND))
+                .invoke(updatedExpense -> {
+                    updatedExpense.uuid = expense.uuid;
+                    updatedExpense.name = expense.name;
+                    updatedExpense.amount = expense.amount;
+                    updatedExpense.paymentMethod = expense.paymentMethod;
+                });
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.bcp.training.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.bcp.training.model.Expense;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Uni;
+
+@Path("/expenses")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class ExpenseResource {
+
+    @GET
+    @WithSession
+    public Uni<List<Expense>> list(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
+                                   @DefaultValue("1") @QueryParam("pageNum") int pageNum) {
+        return Expense.<Expense>findAll(Sort.by("amount").and("associateId"))
+                .page(Page.of(pageNum - 1, pageSize))
+                .list();
+    }
+
+    @POST
+    public Uni<Expense> create(final Expense expense) {
+        return Panache.withTransaction(() -> Expense.of(expense.name, expense.paymentMethod,
+                        expense.amount.toString(), expense.associateId)
+                .call(newExpense -> newExpense.persist()));
+    }
+
+    @DELETE
+    @Path("{uuid}")
+    public Uni<Void> delete(@PathParam("uuid") final UUID uuid) {
+        return Panache.withTransaction(() -> Expense.delete("uuid", uuid))
+                .invoke(numExpensesDeleted -> {
+                    if (numExpensesDeleted == 0) {
+                        throw new WebApplicationException(Response.Status.NOT_FOUND);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    @PUT
+    public Uni<Void> update(final Expense expense) {
+        return Panache.withTransaction(() -> Expense.update(expense))
+                .replaceWithVoid();
+    }
+}
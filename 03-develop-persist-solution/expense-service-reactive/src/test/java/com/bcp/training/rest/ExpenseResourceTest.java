@@ -0,0 +1,43 @@
+package com.bcp.training.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestHTTPEndpoint(ExpenseResource.class)
+public class ExpenseResourceTest {
+
+    @Test
+    public void testListPagesExpenses() {
+        given()
+                .queryParam("pageSize", 3)
+                .when().get()
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(3));
+    }
+
+    @Test
+    public void testCreatedExpenseIsListed() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"name\":\"Reactive\",\"paymentMethod\":\"CASH\",\"amount\":12.50,\"associateId\":2}")
+                .when().post()
+                .then()
+                .statusCode(200)
+                .body("associateId", equalTo(2));
+
+        given()
+                .queryParam("pageSize", 100)
+                .when().get()
+                .then()
+                .statusCode(200)
+                .body("name", hasItem("Reactive"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.bcp.training.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class AmountSummary {
+    public long count;
+    public BigDecimal sum = BigDecimal.ZERO;
+    public BigDecimal min;
+    public BigDecimal max;
+    public BigDecimal average;
+
+    public AmountSummary() {
+    }
+
+    public AmountSummary(long count, BigDecimal sum, BigDecimal min, BigDecimal max) {
+        this.count = count;
+        this.sum = sum == null ? BigDecimal.ZERO : sum;
+        this.min = min;
+        this.max = max;
+        this.average = average(this.count, this.sum);
+    }
+
+    public void add(final AmountSummary other) {
+        count += other.count;
+        sum = sum.add(other.sum);
+        min = min == null || (other.min != null && other.min.compareTo(min) < 0) ? other.min : min;
+        max = max == null || (other.max != null && other.max.compareTo(max) > 0) ? other.max : max;
+        average = average(count, sum);
+    }
+
+    private static BigDecimal average(long count, BigDecimal sum) {
+        return count == 0 ? null : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -1,19 +1,25 @@
 package com.bcp.training.model;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import jakarta.json.bind.annotation.JsonbCreator;
 import jakarta.json.bind.annotation.JsonbTransient;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.TypedQuery;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 // TODO: Add @Entity annotation and extend PanacheEntity
 @Entity
+@Cacheable
 public class Associate extends PanacheEntity {
     public String name;
 
@@ -34,4 +40,27 @@ public class Associate extends PanacheEntity {
     public static Associate of(String name) {
         return new Associate(name);
     }
-}
\ No newline at end of file
+
+    // Aggregates expenses per associate and payment method in the database,
+    // without loading any Expense entity. A null id summarizes every associate.
+    public static Map<Long, AssociateSummary> summarize(final Long associateId) {
+        TypedQuery<Object[]> query = getEntityManager().createQuery(
+                "select a.id, a.name, e.paymentMethod, count(e.id), sum(e.amount), min(e.amount), max(e.amount)"
+                        + " from Associate a left join a.expenses e"
+                        + (associateId == null ? "" : " where a.id = :associateId")
+                        + " group by a.id, a.name, e.paymentMethod"
+                        + " order by a.id", Object[].class);
+        if (associateId != null) {
+            query.setParameter("associateId", associateId);
+        }
+
+        Map<Long, AssociateSummary> summaries = new LinkedHashMap<>();
+        for (Object[] row : query.getResultList()) {
+            Long id = (Long) row[0];
+            summaries.computeIfAbsent(id, key -> new AssociateSummary(key, (String) row[1]))
+                    .add((Expense.PaymentMethod) row[2], new AmountSummary(
+                            (Long) row[3], (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6]));
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bcp.training.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class AssociateSummary {
+    public Long associateId;
+    public String name;
+    public AmountSummary total = new AmountSummary();
+    public Map<Expense.PaymentMethod, AmountSummary> byPaymentMethod = new EnumMap<>(Expense.PaymentMethod.class);
+
+    public AssociateSummary() {
+    }
+
+    public AssociateSummary(Long associateId, String name) {
+        this.associateId = associateId;
+        this.name = name;
+    }
+
+    void add(final Expense.PaymentMethod paymentMethod, final AmountSummary summary) {
+        total.add(summary);
+        if (paymentMethod != null) {
+            byPaymentMethod.put(paymentMethod, summary);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.bcp.training.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
-import java.util.Optional;
 
 import jakarta.json.bind.annotation.JsonbCreator;
 import jakarta.json.bind.annotation.JsonbDateFormat;
@@ -11,8 +10,11 @@ import jakarta.json.bind.annotation.JsonbTransient;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
@@ -21,6 +23,7 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 // TODO: Add @Entity annotation and extend PanacheEntity
 @Entity
+@Table(indexes = @Index(name = "expense_amount_associate_id_idx", columnList = "amount, associate_id, id"))
 public class Expense extends PanacheEntity {
 
     public enum PaymentMethod {
@@ -46,6 +49,9 @@ public class Expense extends PanacheEntity {
     @Column(name = "associate_id")
     public Long associateId;
 
+    @Version
+    public long version;
+
     // TODO: Add a no-argument constructor
     public Expense() {
     }
@@ -77,17 +83,21 @@ public class Expense extends PanacheEntity {
 
     // TODO: Add update() method
     public static void update(final Expense expense) throws RuntimeException {
-        Optional<Expense> previousExpense = Expense.findByIdOptional(expense.id);
-
-        previousExpense.ifPresentOrElse( updatedExpense -> {
-            updatedExpense.uuid = expense.uuid;
-            updatedExpense.name = expense.name;
-            updatedExpense.amount = expense.amount;
-            updatedExpense.paymentMethod = expense.paymentMethod;
-            updatedExpense.persist();
-        }, () -> {
-            throw new WebApplicationException( Response.Status.NOT_FOUND );
-        });
+        if (!updateIfVersion(expense.id, expense.version, expense.uuid, expense.name,
+                expense.amount, expense.paymentMethod)) {
+            throw new WebApplicationException(Expense.count("id", expense.id) == 0
+                    ? Response.Status.NOT_FOUND
+                    : Response.Status.CONFLICT);
+        }
+    }
+
+    // Single UPDATE that only matches the row while it still has the expected version
+    public static boolean updateIfVersion(final Long id, final long version, final UUID uuid, final String name,
+                                          final BigDecimal amount, final PaymentMethod paymentMethod) {
+        return Expense.update(
+                "uuid = ?1, name = ?2, amount = ?3, paymentMethod = ?4, version = version + 1"
+                        + " where id = ?5 and version = ?6",
+                uuid, name, amount, paymentMethod, id, version) == 1;
     }
 
 }
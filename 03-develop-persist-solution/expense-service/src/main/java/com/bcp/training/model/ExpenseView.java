@@ -0,0 +1,19 @@
+package com.bcp.training.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.json.bind.annotation.JsonbDateFormat;
+
+// Read-only projection of Expense, filled straight from the query result
+// without creating managed entities
+public record ExpenseView(Long id,
+                          UUID uuid,
+                          String name,
+                          @JsonbDateFormat(value = "yyyy-MM-dd HH:mm:ss") LocalDateTime creationDate,
+                          Expense.PaymentMethod paymentMethod,
+                          BigDecimal amount,
+                          Long associateId,
+                          long version) {
+}
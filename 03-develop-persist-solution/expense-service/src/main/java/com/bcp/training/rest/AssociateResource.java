@@ -0,0 +1,52 @@
+package com.bcp.training.rest;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.bcp.training.model.Associate;
+import com.bcp.training.model.AssociateSummary;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.hibernate.jpa.HibernateHints;
+
+@Path("/associates")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class AssociateResource {
+
+    @Inject
+    AssociateSummaryCache summaryCache;
+
+    @GET
+    public List<Associate> list() {
+        return Associate.findAll()
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .list();
+    }
+
+    @GET
+    @Path("summary")
+    public Collection<AssociateSummary> summary() {
+        return summaryCache.all().values();
+    }
+
+    @GET
+    @Path("{id}/summary")
+    public AssociateSummary summary(@PathParam("id") final Long id) {
+        AssociateSummary summary = summaryCache.get(id);
+
+        if (summary == null) {
+            throw new WebApplicationException(Response.Status.NOT_FOUND);
+        }
+
+        return summary;
+    }
+}
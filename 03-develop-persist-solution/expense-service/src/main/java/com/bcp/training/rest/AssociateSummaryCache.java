@@ -0,0 +1,56 @@
+package com.bcp.training.rest;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.bcp.training.model.Associate;
+import com.bcp.training.model.AssociateSummary;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class AssociateSummaryCache {
+
+    @ConfigProperty(name = "expense.summary.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    private long generation;
+    private volatile Map<Long, AssociateSummary> summaries;
+
+    public Map<Long, AssociateSummary> all() {
+        if (!enabled) {
+            return Associate.summarize(null);
+        }
+
+        Map<Long, AssociateSummary> current = summaries;
+        if (current == null) {
+            long seen;
+            synchronized (this) {
+                seen = generation;
+            }
+            current = Collections.unmodifiableMap(Associate.summarize(null));
+            synchronized (this) {
+                // Only keep the result if no write committed while it was computed
+                if (generation == seen) {
+                    summaries = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public AssociateSummary get(final Long associateId) {
+        if (!enabled) {
+            return Associate.summarize(associateId).get(associateId);
+        }
+        return all().get(associateId);
+    }
+
+    synchronized void onExpensesChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ExpensesChanged event) {
+        generation++;
+        summaries = null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bcp.training.rest;
+
+import jakarta.validation.constraints.Positive;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "expense.batch")
+public interface ExpenseBatchConfiguration {
+
+    // Items persisted between two flushes of the persistence context, and looked up per query by batch updates
+    @Positive
+    @WithDefault("50")
+    int flushInterval();
+}
@@ -0,0 +1,18 @@
+package com.bcp.training.rest;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.bcp.training.model.Expense;
+
+// Plain input shape for the batch endpoints, so that reading a batch does not
+// trigger the per-item associate lookup done by Expense.of()
+public class ExpenseBatchItem {
+    public Long id;
+    public UUID uuid;
+    public String name;
+    public Expense.PaymentMethod paymentMethod;
+    public BigDecimal amount;
+    public Long associateId;
+    public Long version;
+}
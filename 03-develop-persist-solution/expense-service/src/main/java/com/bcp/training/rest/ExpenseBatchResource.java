@@ -0,0 +1,210 @@
+package com.bcp.training.rest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.bcp.training.model.Associate;
+import com.bcp.training.model.Expense;
+import com.bcp.training.model.ExpenseView;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+
+@Path("/expenses/batch")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class ExpenseBatchResource {
+
+    @Inject
+    ExpenseBatchConfiguration configuration;
+
+    @Inject
+    Jsonb jsonb;
+
+    @Inject
+    Event<ExpensesChanged> expensesChanged;
+
+    @POST
+    @Transactional
+    public List<ExpenseBatchResult> create(final List<ExpenseBatchItem> items) {
+        Map<Long, Associate> associates = findAssociates(items);
+        EntityManager entityManager = Expense.getEntityManager();
+        List<ExpenseBatchResult> results = new ArrayList<>(items.size());
+        int flushInterval = configuration.flushInterval();
+
+        int pending = 0;
+        for (int index = 0; index < items.size(); index++) {
+            ExpenseBatchItem item = items.get(index);
+            Associate associate = associates.get(item.associateId);
+
+            if (associate == null) {
+                results.add(ExpenseBatchResult.failed(index, Response.Status.NOT_FOUND.getStatusCode(),
+                        "Associate not found"));
+                continue;
+            }
+            if (item.amount == null) {
+                results.add(ExpenseBatchResult.failed(index, Response.Status.BAD_REQUEST.getStatusCode(),
+                        "Amount is required"));
+                continue;
+            }
+
+            Expense expense = new Expense(item.name, item.paymentMethod, item.amount.toString(), associate);
+            expense.persist();
+            results.add(ExpenseBatchResult.ok(index, Response.Status.CREATED.getStatusCode(),
+                    expense.id, expense.uuid));
+
+            if (++pending % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        if (pending > 0) {
+            expensesChanged.fire(new ExpensesChanged());
+        }
+        return results;
+    }
+
+    @POST
+    @Consumes(RestMediaType.APPLICATION_NDJSON)
+    @Transactional
+    public List<ExpenseBatchResult> createFromNdjson(final InputStream body) throws IOException {
+        List<ExpenseBatchItem> items = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    items.add(jsonb.fromJson(line, ExpenseBatchItem.class));
+                }
+            }
+        }
+
+        return create(items);
+    }
+
+    @PUT
+    @Transactional
+    public List<ExpenseBatchResult> update(final List<ExpenseBatchItem> items) {
+        List<ExpenseBatchResult> results = new ArrayList<>(items.size());
+        int flushInterval = configuration.flushInterval();
+        int updated = 0;
+
+        // Read one chunk at a time to tell missing expenses from conflicts, then update each row
+        // only if it still has the version the client read. Every item is its own UPDATE statement,
+        // bulk updates are not JDBC-batched
+        for (int start = 0; start < items.size(); start += flushInterval) {
+            List<ExpenseBatchItem> chunk = items.subList(start, Math.min(start + flushInterval, items.size()));
+            Map<Long, ExpenseView> expenses = findExpenses(chunk);
+
+            for (int offset = 0; offset < chunk.size(); offset++) {
+                ExpenseBatchItem item = chunk.get(offset);
+                ExpenseView expense = expenses.get(item.id);
+
+                if (expense == null) {
+                    results.add(ExpenseBatchResult.failed(start + offset, Response.Status.NOT_FOUND.getStatusCode(),
+                            "Expense not found"));
+                    continue;
+                }
+
+                if (item.version == null) {
+                    results.add(ExpenseBatchResult.failed(start + offset, Response.Status.BAD_REQUEST.getStatusCode(),
+                            "Version is required"));
+                    continue;
+                }
+
+                UUID uuid = item.uuid == null ? expense.uuid() : item.uuid;
+                if (!Expense.updateIfVersion(expense.id(), item.version, uuid, item.name, item.amount,
+                        item.paymentMethod)) {
+                    results.add(ExpenseBatchResult.failed(start + offset, Response.Status.CONFLICT.getStatusCode(),
+                            "Expense was modified concurrently"));
+                    continue;
+                }
+
+                results.add(ExpenseBatchResult.ok(start + offset, Response.Status.OK.getStatusCode(),
+                        expense.id(), uuid));
+                updated++;
+            }
+        }
+
+        if (updated > 0) {
+            expensesChanged.fire(new ExpensesChanged());
+        }
+        return results;
+    }
+
+    @DELETE
+    @Transactional
+    public List<ExpenseBatchResult> delete(final List<UUID> uuids) {
+        Set<UUID> existing = Set.copyOf(Expense.getEntityManager()
+                .createQuery("select e.uuid from Expense e where e.uuid in :uuids", UUID.class)
+                .setParameter("uuids", uuids)
+                .getResultList());
+
+        if (!existing.isEmpty()) {
+            Expense.delete("uuid in ?1", existing);
+            expensesChanged.fire(new ExpensesChanged());
+        }
+
+        List<ExpenseBatchResult> results = new ArrayList<>(uuids.size());
+        for (int index = 0; index < uuids.size(); index++) {
+            UUID uuid = uuids.get(index);
+            results.add(existing.contains(uuid)
+                    ? ExpenseBatchResult.ok(index, Response.Status.NO_CONTENT.getStatusCode(), null, uuid)
+                    : ExpenseBatchResult.failed(index, Response.Status.NOT_FOUND.getStatusCode(), "Expense not found"));
+        }
+
+        return results;
+    }
+
+    private Map<Long, Associate> findAssociates(final List<ExpenseBatchItem> items) {
+        Set<Long> ids = items.stream()
+                .map(item -> item.associateId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return Associate.<Associate>list("id in ?1", ids).stream()
+                .collect(Collectors.toMap(associate -> associate.id, Function.identity()));
+    }
+
+    private Map<Long, ExpenseView> findExpenses(final List<ExpenseBatchItem> items) {
+        Set<Long> ids = items.stream()
+                .map(item -> item.id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return Expense.find("id in ?1", ids).project(ExpenseView.class).list().stream()
+                .collect(Collectors.toMap(ExpenseView::id, Function.identity()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bcp.training.rest;
+
+import java.util.UUID;
+
+public class ExpenseBatchResult {
+    public int index;
+    public int status;
+    public Long id;
+    public UUID uuid;
+    public String error;
+
+    public ExpenseBatchResult() {
+    }
+
+    public static ExpenseBatchResult ok(int index, int status, Long id, UUID uuid) {
+        ExpenseBatchResult result = new ExpenseBatchResult();
+        result.index = index;
+        result.status = status;
+        result.id = id;
+        result.uuid = uuid;
+        return result;
+    }
+
+    public static ExpenseBatchResult failed(int index, int status, String error) {
+        ExpenseBatchResult result = new ExpenseBatchResult();
+        result.index = index;
+        result.status = status;
+        result.error = error;
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bcp.training.rest;
+
+import java.util.List;
+
+import com.bcp.training.model.ExpenseView;
+
+public class ExpensePage {
+    public List<ExpenseView> expenses;
+    public String next;
+
+    public ExpensePage() {
+    }
+
+    public ExpensePage(List<ExpenseView> expenses, String next) {
+        this.expenses = expenses;
+        this.next = next;
+    }
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import com.bcp.training.model.Expense;
+import com.bcp.training.model.ExpenseView;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,21 +27,53 @@ import jakarta.ws.rs.DefaultValue;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 @Path("/expenses")
+@RunOnVirtualThread
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class ExpenseResource {
 
+    @Inject
+    Event<ExpensesChanged> expensesChanged;
+
     @GET
     // TODO 1: Implement with a call to "listAll()" of Expense entity.
     // TODO 2: Add pagination and sort by "amount" and "associateId".
-    public List<Expense> list(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
-                              @DefaultValue("1") @QueryParam("pageNum") int pageNum) {
+    public List<ExpenseView> list(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
+                                  @DefaultValue("1") @QueryParam("pageNum") int pageNum) {
         PanacheQuery<Expense> expenseQuery = Expense.findAll(
                 Sort.by("amount").and("associateId"));
 
-        return expenseQuery.page(Page.of(pageNum - 1, pageSize)).list();
+        return expenseQuery.project(ExpenseView.class).page(Page.of(pageNum - 1, pageSize)).list();
+    }
+
+    @GET
+    @Path("seek")
+    public ExpensePage seek(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
+                            @QueryParam("after") String after) {
+        if (pageSize < 1) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+
+        Sort sort = Sort.by("amount").and("associateId").and("id");
+        PanacheQuery<Expense> expenseQuery;
+
+        if (after == null || after.isBlank()) {
+            expenseQuery = Expense.findAll(sort);
+        } else {
+            ExpenseCursor cursor = ExpenseCursor.decode(after);
+            expenseQuery = Expense.find("(amount, associateId, id) > (?1, ?2, ?3)", sort,
+                    cursor.amount(), cursor.associateId(), cursor.id());
+        }
+
+        List<ExpenseView> expenses = expenseQuery.project(ExpenseView.class).range(0, pageSize - 1).list();
+        String next = expenses.size() < pageSize
+                ? null
+                : ExpenseCursor.of(expenses.get(expenses.size() - 1)).encode();
+
+        return new ExpensePage(expenses, next);
     }
 
     @POST
@@ -49,6 +84,7 @@ public class ExpenseResource {
                 expense.amount.toString(), expense.associateId);
         // TODO: Use the "persist()" method of the entity.
         newExpense.persist();
+        expensesChanged.fire(new ExpensesChanged());
 
         return newExpense;
     }
@@ -64,6 +100,7 @@ public class ExpenseResource {
         if (numExpensesDeleted == 0) {
             throw new WebApplicationException(Response.Status.NOT_FOUND);
         }
+        expensesChanged.fire(new ExpensesChanged());
     }
 
     @PUT
@@ -71,10 +108,7 @@ public class ExpenseResource {
     @Transactional
     public void update(final Expense expense) {
         // TODO: Use the "update()" method of the entity.
-        try {
-            Expense.update(expense);
-        } catch (RuntimeException e) {
-            throw new WebApplicationException(Response.Status.NOT_FOUND);
-        }
+        Expense.update(expense);
+        expensesChanged.fire(new ExpensesChanged());
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.bcp.training.rest;
+
+// CDI event fired by every expense write, observed once the transaction commits
+public class ExpensesChanged {
+}
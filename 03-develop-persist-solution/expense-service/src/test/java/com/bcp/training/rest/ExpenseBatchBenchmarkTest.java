@@ -0,0 +1,70 @@
+package com.bcp.training.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.StringJoiner;
+
+import com.bcp.training.model.Expense;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares importing expenses one POST /expenses at a time with a single POST /expenses/batch.
+ * Run with {@code mvn test -Dbenchmark=true}, the database is started by the PostgreSQL dev
+ * service. Without the property the benchmark profile is off and surefire skips it.
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ExpenseBatchBenchmarkTest {
+
+    private static final int EXPENSES = 5_000;
+    private static final String NAME_PREFIX = "benchmark-";
+
+    @Test
+    public void benchmarkBatchCreate() {
+        long started = System.nanoTime();
+        for (int i = 0; i < EXPENSES; i++) {
+            given().contentType(ContentType.JSON)
+                    .body(item(i, "\"" + amount(i) + "\""))
+                    .post("/expenses")
+                    .then().statusCode(200);
+        }
+        long single = (System.nanoTime() - started) / 1_000_000;
+
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < EXPENSES; i++) {
+            batch.add(item(EXPENSES + i, amount(i)));
+        }
+        started = System.nanoTime();
+        given().contentType(ContentType.JSON)
+                .body(batch.toString())
+                .post("/expenses/batch")
+                .then().statusCode(200)
+                .body("size()", equalTo(EXPENSES));
+        long batched = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("%d expenses:%n", EXPENSES);
+        System.out.printf("  one POST /expenses each  %6d ms%n", single);
+        System.out.printf("  one POST /expenses/batch %6d ms%n", batched);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() -> Expense.delete("name like ?1", NAME_PREFIX + "%"));
+    }
+
+    // Expense.of() takes the amount as a string, the batch items as a number
+    private static String item(int index, String amount) {
+        return "{\"name\":\"" + NAME_PREFIX + index + "\",\"paymentMethod\":\"CASH\","
+                + "\"amount\":" + amount + ",\"associateId\":" + (index % 2 + 1) + "}";
+    }
+
+    private static String amount(int index) {
+        return (index % 500 + 1) + ".00";
+    }
+}
@@ -0,0 +1,121 @@
+#! /bin/bash
+# Builds the JVM and native variants of expense-function, starts each of them
+# RUNS times and records startup-to-first-response, RSS, the throughput of the
+# expenses() function and of single vs batched expense creation in
+# target/benchmark-report.json.
+#
+# Usage: ./benchmark.sh [RUNS] [REQUESTS]
+#   SKIP_BUILD=true  reuse the artifacts already in target/
+#   VARIANTS="jvm"   benchmark only some of the variants (default "jvm native")
+#   BATCH_SIZE=100   expenses per createExpenses() invocation
+
+set -eu
+cd "$(dirname "$0")"
+
+RUNS=${1:-5}
+REQUESTS=${2:-2000}
+PORT=${PORT:-8080}
+VARIANTS=${VARIANTS:-"jvm native"}
+BATCH_SIZE=${BATCH_SIZE:-100}
+BASE_URL="http://localhost:${PORT}"
+URL="${BASE_URL}/expenses"
+EXPENSE='{"name":"benchmark","paymentMethod":"CASH","amount":1}'
+BATCH="[${EXPENSE}$(for i in $(seq 2 "${BATCH_SIZE}"); do printf ',%s' "${EXPENSE}"; done)]"
+REPORT=target/benchmark-report.json
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+build() {
+    case "$1" in
+        jvm) ./mvnw -B -q package -DskipTests -Dquarkus.container-image.build=false ;;
+        native) ./mvnw -B -q package -DskipTests -Dnative -Dquarkus.container-image.build=false ;;
+    esac
+}
+
+start() {
+    case "$1" in
+        jvm) java -Dquarkus.http.port=${PORT} -jar target/quarkus-app/quarkus-run.jar > /dev/null 2>&1 & ;;
+        native) ./target/*-runner -Dquarkus.http.port=${PORT} > /dev/null 2>&1 & ;;
+    esac
+    PID=$!
+}
+
+# Resident set size of the function process, in KiB
+rss_kb() {
+    ps -o rss= -p "$1" | tr -d ' '
+}
+
+# Posts the same body REQUESTS times to a function and prints the elapsed milliseconds
+post_loop() {
+    local begin
+    begin=$(now_ms)
+    curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$2" "${BASE_URL}/$1?request=[1-${REQUESTS}]"
+    echo $(( $(now_ms) - begin ))
+}
+
+per_second() {
+    echo $(( $1 * 1000 / ($2 > 0 ? $2 : 1) ))
+}
+
+run_once() {
+    local variant=$1 started first_response rss_first rss_after begin elapsed single batch
+    started=$(now_ms)
+    start "${variant}"
+
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${PID}" 2> /dev/null; then
+            echo "${variant} exited before answering ${URL}" >&2
+            exit 1
+        fi
+        sleep 0.005
+    done
+    first_response=$(( $(now_ms) - started ))
+    rss_first=$(rss_kb "${PID}")
+
+    # One curl process with URL globbing keeps the connection alive, so the
+    # loop measures the function rather than process and TCP setup
+    begin=$(now_ms)
+    curl -sf -o /dev/null "${URL}?request=[1-${REQUESTS}]"
+    elapsed=$(( $(now_ms) - begin ))
+    rss_after=$(rss_kb "${PID}")
+
+    single=$(post_loop createExpense "${EXPENSE}")
+    batch=$(post_loop createExpenses "${BATCH}")
+
+    kill "${PID}"
+    wait "${PID}" 2> /dev/null || true
+
+    printf '{"firstResponseMs":%d,"rssAfterFirstResponseKb":%d,"rssAfterLoadKb":%d,"requests":%d,"elapsedMs":%d,"requestsPerSecond":%d,' \
+        "${first_response}" "${rss_first}" "${rss_after}" "${REQUESTS}" "${elapsed}" \
+        "$(per_second "${REQUESTS}" "${elapsed}")"
+    printf '"createExpense":{"invocationsPerSecond":%d,"expensesPerSecond":%d},' \
+        "$(per_second "${REQUESTS}" "${single}")" "$(per_second "${REQUESTS}" "${single}")"
+    printf '"createExpenses":{"batchSize":%d,"invocationsPerSecond":%d,"expensesPerSecond":%d}}' \
+        "${BATCH_SIZE}" "$(per_second "${REQUESTS}" "${batch}")" "$(per_second $(( REQUESTS * BATCH_SIZE )) "${batch}")"
+}
+
+mkdir -p target
+results=""
+for variant in ${VARIANTS}; do
+    if [ "${SKIP_BUILD:-false}" != "true" ]; then
+        echo "Building ${variant}..."
+        build "${variant}"
+    fi
+
+    runs=""
+    for i in $(seq 1 "${RUNS}"); do
+        echo "Starting ${variant} (${i}/${RUNS})..."
+        runs="${runs:+${runs},}$(run_once "${variant}")"
+    done
+    results="${results:+${results},}\"${variant}\":[${runs}]"
+done
+
+printf '{"timestamp":"%s","gitCommit":"%s","runs":%d,"requestsPerRun":%d,"results":{%s}}\n' \
+    "$(date -u +%Y-%m-%dT%H:%M:%SZ)" "$(git rev-parse --short HEAD 2> /dev/null || echo unknown)" \
+    "${RUNS}" "${REQUESTS}" "${results}" > "${REPORT}"
+
+echo
+echo "Report written to ${REPORT}"
+cat "${REPORT}"
@@ -4,6 +4,11 @@ import java.time.LocalDateTime;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+@JsonSerialize( using = ExpenseCodec.Serializer.class )
+@JsonDeserialize( using = ExpenseCodec.Deserializer.class )
 public class Expense {
 
     enum PaymentMethod {
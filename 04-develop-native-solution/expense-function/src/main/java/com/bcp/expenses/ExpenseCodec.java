@@ -0,0 +1,86 @@
+package com.bcp.expenses;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written JSON mapping for {@link Expense}. Jackson calls these directly instead
+ * of introspecting the fields, so the native image needs no reflection data for them.
+ */
+final class ExpenseCodec {
+
+    private ExpenseCodec() {
+    }
+
+    public static final class Serializer extends StdSerializer<Expense> {
+
+        public Serializer() {
+            super( Expense.class );
+        }
+
+        @Override
+        public void serialize( Expense expense, JsonGenerator json, SerializerProvider provider ) throws IOException {
+            json.writeStartObject();
+            json.writeStringField( "uuid", expense.uuid == null ? null : expense.uuid.toString() );
+            json.writeStringField( "name", expense.name );
+            // Same text as Jackson's LocalDateTimeSerializer, toString() would drop zero seconds
+            json.writeStringField( "creationDate", expense.creationDate == null
+                    ? null
+                    : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format( expense.creationDate ) );
+            json.writeStringField( "paymentMethod",
+                    expense.paymentMethod == null ? null : expense.paymentMethod.name() );
+            json.writeFieldName( "amount" );
+            if ( expense.amount == null ) {
+                json.writeNull();
+            } else {
+                json.writeNumber( expense.amount );
+            }
+            json.writeEndObject();
+        }
+    }
+
+    public static final class Deserializer extends StdDeserializer<Expense> {
+
+        public Deserializer() {
+            super( Expense.class );
+        }
+
+        @Override
+        public Expense deserialize( JsonParser json, DeserializationContext context ) throws IOException {
+            if ( json.currentToken() != JsonToken.START_OBJECT ) {
+                return (Expense) context.handleUnexpectedToken( Expense.class, json );
+            }
+
+            var expense = new Expense();
+            while ( json.nextToken() == JsonToken.FIELD_NAME ) {
+                var field = json.currentName();
+                var token = json.nextToken();
+                if ( token == JsonToken.VALUE_NULL ) {
+                    continue;
+                }
+                switch ( field ) {
+                    case "uuid" -> expense.uuid = UUID.fromString( json.getText() );
+                    case "name" -> expense.name = json.getText();
+                    case "creationDate" -> expense.creationDate = LocalDateTime.parse( json.getText() );
+                    case "paymentMethod" -> expense.paymentMethod = Expense.PaymentMethod.valueOf( json.getText() );
+                    case "amount" -> expense.amount = token == JsonToken.VALUE_STRING
+                            ? new BigDecimal( json.getText() )
+                            : json.getDecimalValue();
+                    default -> json.skipChildren();
+                }
+            }
+            return expense;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bcp.expenses;
 
 import java.util.List;
+import java.util.UUID;
 
 import jakarta.inject.Inject;
 
@@ -20,4 +21,19 @@ public class ExpenseFunctions {
     public void createExpense( Expense expense ) {
         repository.add( expense );
     }
+
+    @Funq
+    public int createExpenses( List<Expense> expenses ) {
+        return repository.addAll( expenses );
+    }
+
+    @Funq
+    public boolean updateExpense( Expense expense ) {
+        return repository.update( expense );
+    }
+
+    @Funq
+    public boolean deleteExpense( UUID uuid ) {
+        return repository.delete( uuid );
+    }
 }
\ No newline at end of file
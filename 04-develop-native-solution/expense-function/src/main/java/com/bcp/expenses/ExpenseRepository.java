@@ -1,8 +1,10 @@
 package com.bcp.expenses;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -11,33 +13,50 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class ExpenseRepository {
 
-    List<Expense> items = new ArrayList<>();
+    Map<UUID, Expense> items = new ConcurrentHashMap<>();
 
     public ExpenseRepository() {
         // Sample data
-        items.add( new Expense( "example-expense-1", Expense.PaymentMethod.CREDIT_CARD, "83" ) );
-        items.add( new Expense( "example-expense-21", Expense.PaymentMethod.CASH, "21" ) );
+        ExpenseSeed.EXPENSES.forEach( expense -> items.put( expense.uuid, expense ) );
     }
 
     public void add( Expense expense ) {
-        items.add( Expense.of( expense ) );
+        var created = Expense.of( expense );
+        items.put( created.uuid, created );
     }
 
-    public void update( final Expense expense ) {
-        Optional<Expense> possibleExpense = items.stream()
-                .filter( e -> e.uuid.compareTo( expense.uuid ) == 0 )
-                .findFirst();
-
-        if ( possibleExpense.isPresent() ) {
-            var current = possibleExpense.get();
+    public int addAll( List<Expense> expenses ) {
+        Map<UUID, Expense> created = new HashMap<>( expenses.size() * 2 );
+        for ( var expense : expenses ) {
+            var copy = Expense.of( expense );
+            created.put( copy.uuid, copy );
+        }
+        items.putAll( created );
+        return created.size();
+    }
 
-            current.name = expense.name;
-            current.amount = expense.amount;
-            current.paymentMethod = expense.paymentMethod;
+    public boolean update( final Expense expense ) {
+        if ( expense.uuid == null ) {
+            return false;
         }
+
+        // Stored expenses are never mutated, so a snapshot from all() stays consistent
+        return items.computeIfPresent( expense.uuid, ( uuid, current ) -> {
+            var updated = new Expense();
+            updated.uuid = uuid;
+            updated.creationDate = current.creationDate;
+            updated.name = expense.name;
+            updated.amount = expense.amount;
+            updated.paymentMethod = expense.paymentMethod;
+            return updated;
+        } ) != null;
+    }
+
+    public boolean delete( UUID uuid ) {
+        return uuid != null && items.remove( uuid ) != null;
     }
 
     public List<Expense> all() {
-        return items;
+        return List.copyOf( items.values() );
     }
 }
@@ -0,0 +1,21 @@
+package com.bcp.expenses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sample expenses. They only use constant identifiers and dates, so the class can
+ * be initialized while building the native image and the list is stored in the image heap.
+ */
+final class ExpenseSeed {
+
+    static final List<Expense> EXPENSES = List.of(
+            new Expense( UUID.fromString( "6f9e4d1c-2a1b-4c3d-9e8f-0a1b2c3d4e01" ), "example-expense-1",
+                    LocalDateTime.of( 2025, 1, 1, 9, 0 ), Expense.PaymentMethod.CREDIT_CARD, "83" ),
+            new Expense( UUID.fromString( "6f9e4d1c-2a1b-4c3d-9e8f-0a1b2c3d4e21" ), "example-expense-21",
+                    LocalDateTime.of( 2025, 1, 2, 9, 0 ), Expense.PaymentMethod.CASH, "21" ) );
+
+    private ExpenseSeed() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.bcp.expenses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExpenseCodecTest {
+
+    // The mapping Expense had before ExpenseCodec: java.time support and ISO dates
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule( new JavaTimeModule() )
+            .disable( SerializationFeature.WRITE_DATES_AS_TIMESTAMPS );
+
+    @Test
+    public void testCreationDateIsWrittenLikeJackson() throws Exception {
+        var dates = List.of(
+                LocalDateTime.of( 2025, 1, 1, 9, 0 ),
+                LocalDateTime.of( 2025, 1, 1, 9, 0, 5 ),
+                LocalDateTime.of( 2025, 1, 1, 9, 0, 5, 120_000_000 ),
+                LocalDateTime.of( 2025, 1, 1, 0, 0, 0, 1 ) );
+
+        for ( var date : dates ) {
+            var expense = new Expense( UUID.randomUUID(), "Desk", date, Expense.PaymentMethod.CASH, "150.50" );
+            var written = mapper.readTree( mapper.writeValueAsString( expense ) );
+
+            assertEquals( mapper.writeValueAsString( date ), written.get( "creationDate" ).toString() );
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        var expense = new Expense( UUID.randomUUID(), "Desk", LocalDateTime.of( 2025, 1, 1, 9, 0 ),
+                Expense.PaymentMethod.DEBIT_CARD, "150.50" );
+
+        var read = mapper.readValue( mapper.writeValueAsString( expense ), Expense.class );
+
+        assertEquals( expense.uuid, read.uuid );
+        assertEquals( expense.name, read.name );
+        assertEquals( expense.creationDate, read.creationDate );
+        assertEquals( expense.paymentMethod, read.paymentMethod );
+        assertEquals( expense.amount, read.amount );
+    }
+}
@@ -0,0 +1,96 @@
+package com.bcp.expenses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS = 2_000;
+
+    @Test
+    public void testConcurrentCreateUpdateDelete() throws Exception {
+        var repository = new ExpenseRepository();
+        var seeded = repository.all().size();
+        var start = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for ( int t = 0; t < THREADS; t++ ) {
+                results.add( executor.submit( () -> {
+                    start.await();
+                    var deleted = 0;
+                    for ( int i = 0; i < OPERATIONS; i++ ) {
+                        repository.add( new Expense( "expense-" + i, Expense.PaymentMethod.CASH, "10" ) );
+
+                        var snapshot = repository.all();
+                        var target = snapshot.get( ThreadLocalRandom.current().nextInt( snapshot.size() ) );
+                        var changed = new Expense( target.uuid, "updated", target.creationDate,
+                                Expense.PaymentMethod.DEBIT_CARD, "20" );
+                        repository.update( changed );
+
+                        if ( i % 2 == 0 && repository.delete( target.uuid ) ) {
+                            deleted++;
+                        }
+                    }
+                    return deleted;
+                } ) );
+            }
+            start.countDown();
+
+            var deleted = 0;
+            for ( var result : results ) {
+                deleted += result.get();
+            }
+            assertEquals( seeded + THREADS * OPERATIONS - deleted, repository.all().size() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAddAll() {
+        var repository = new ExpenseRepository();
+        var seeded = repository.all().size();
+        var batch = List.of(
+                new Expense( "batch-1", Expense.PaymentMethod.CASH, "1" ),
+                new Expense( "batch-2", Expense.PaymentMethod.CREDIT_CARD, "2" ),
+                new Expense( "batch-3", Expense.PaymentMethod.DEBIT_CARD, "3" ) );
+
+        assertEquals( 3, repository.addAll( batch ) );
+        assertEquals( seeded + 3, repository.all().size() );
+    }
+
+    @Test
+    public void testUpdateAndDeleteUnknownExpense() {
+        var repository = new ExpenseRepository();
+        var unknown = new Expense( "unknown", Expense.PaymentMethod.CASH, "1" );
+
+        assertFalse( repository.update( unknown ) );
+        assertFalse( repository.delete( unknown.uuid ) );
+    }
+
+    @Test
+    public void testAllReturnsSnapshot() {
+        var repository = new ExpenseRepository();
+        var snapshot = repository.all();
+        var expense = snapshot.get( 0 );
+
+        assertTrue( repository.delete( expense.uuid ) );
+        assertTrue( snapshot.contains( expense ) );
+        assertThrows( UnsupportedOperationException.class, () -> snapshot.remove( 0 ) );
+    }
+}
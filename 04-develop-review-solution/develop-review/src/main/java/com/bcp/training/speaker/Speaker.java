@@ -4,14 +4,26 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.BatchSize;
+
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "speaker_name_id_idx", columnList = "name, id"))
+@NamedEntityGraph(name = Speaker.WITH_TALKS, attributeNodes = @NamedAttributeNode("talks"))
 public class Speaker extends PanacheEntity {
+    public static final String WITH_TALKS = "Speaker.withTalks";
+
     public String name;
     public String organization;
 
+    // Lazy loads outside the listing initialize the talks of up to 25 speakers per query
     @OneToMany(cascade = CascadeType.ALL)
+    @BatchSize(size = 25)
     public List<Talk> talks;
 }
@@ -0,0 +1,35 @@
+package com.bcp.training.speaker;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+@ApplicationScoped
+public class SpeakerCount {
+
+    private long generation;
+    private volatile Long count;
+
+    public long get() {
+        Long current = count;
+        if (current == null) {
+            long seen;
+            synchronized (this) {
+                seen = generation;
+            }
+            current = Speaker.count();
+            synchronized (this) {
+                // Only keep the result if no write committed while it was computed
+                if (generation == seen) {
+                    count = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    synchronized void onSpeakersChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) SpeakersChanged event) {
+        generation++;
+        count = null;
+    }
+}
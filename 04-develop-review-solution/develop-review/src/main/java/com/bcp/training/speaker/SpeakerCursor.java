@@ -0,0 +1,48 @@
+package com.bcp.training.speaker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import jakarta.ws.rs.BadRequestException;
+
+// Opaque continuation token holding the sort field and the sort key of the last speaker of a page
+public record SpeakerCursor(String sortBy, Long id, String name) {
+
+    private static final String SEPARATOR = "|";
+    // Prefixes of the encoded name, so a speaker without a name is not read back as the name "null"
+    private static final String NULL_NAME = "-";
+    private static final String NAME = "+";
+
+    public static SpeakerCursor of(String sortBy, Speaker speaker) {
+        return new SpeakerCursor(sortBy, speaker.id, speaker.name);
+    }
+
+    public static SpeakerCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 3);
+            return new SpeakerCursor(parts[0], Long.valueOf(parts[1]), parts.length > 2 ? decodeName(parts[2]) : null);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + id + ("name".equals(sortBy) ? SEPARATOR + encodeName(name) : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodeName(String name) {
+        return name == null ? NULL_NAME : NAME + name;
+    }
+
+    private static String decodeName(String encoded) {
+        if (encoded.equals(NULL_NAME)) {
+            return null;
+        }
+        if (!encoded.startsWith(NAME)) {
+            throw new IllegalArgumentException("Invalid name");
+        }
+        return encoded.substring(NAME.length());
+    }
+}
@@ -0,0 +1,16 @@
+package com.bcp.training.speaker;
+
+import java.util.List;
+
+public class SpeakerPage {
+    public List<Speaker> speakers;
+    public String next;
+
+    public SpeakerPage() {
+    }
+
+    public SpeakerPage(List<Speaker> speakers, String next) {
+        this.speakers = speakers;
+        this.next = next;
+    }
+}
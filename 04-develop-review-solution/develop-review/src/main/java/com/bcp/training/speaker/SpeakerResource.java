@@ -7,17 +7,29 @@ import org.eclipse.microprofile.openapi.annotations.headers.Header;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
 import java.net.URI;
 import java.util.List;
 
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_FETCH_GRAPH;
+
 @Path("/speakers")
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class SpeakerResource {
 
+    @Inject
+    SpeakerCount speakerCount;
+
+    @Inject
+    Event<SpeakersChanged> speakersChanged;
+
     @GET
     @Operation(summary = "Retrieves the list of speakers")
     @APIResponse(responseCode = "200")
@@ -26,10 +38,70 @@ public class SpeakerResource {
             @DefaultValue("0") @QueryParam("pageIndex") int pageIndex,
             @DefaultValue("25") @QueryParam("pageSize") int pageSize
     ) {
-        return Speaker
-                .findAll(Sort.by(filterSortBy(sortBy)))
-                .page(pageIndex, pageSize)
-                .list();
+        String sortField = filterSortBy(sortBy);
+
+        List<Long> ids = Speaker.getEntityManager()
+                .createQuery("select id from Speaker order by " + orderBy(sortField), Long.class)
+                .setFirstResult(pageIndex * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList();
+
+        return findWithTalks(ids, sortField);
+    }
+
+    @GET
+    @Path("/seek")
+    @Operation(summary = "Retrieves the page of speakers that follows a continuation token")
+    @APIResponse(responseCode = "200")
+    public Response seekSpeakers(
+            @DefaultValue("id") @QueryParam("sortBy") String sortBy,
+            @DefaultValue("25") @QueryParam("pageSize") int pageSize,
+            @QueryParam("after") String after,
+            @DefaultValue("false") @QueryParam("count") boolean count
+    ) {
+        if (pageSize < 1) {
+            throw new BadRequestException("pageSize must be positive");
+        }
+        String sortField = filterSortBy(sortBy);
+        EntityManager entityManager = Speaker.getEntityManager();
+        TypedQuery<Long> idQuery;
+
+        if (after == null || after.isBlank()) {
+            idQuery = entityManager.createQuery(
+                    "select id from Speaker order by " + orderBy(sortField), Long.class);
+        } else {
+            SpeakerCursor cursor = SpeakerCursor.decode(after);
+            if (!cursor.sortBy().equals(sortField)) {
+                throw new BadRequestException("The cursor belongs to another sort order");
+            }
+            if (sortField.equals("name") && cursor.name() == null) {
+                // Speakers without a name come last, ordered by id among themselves
+                idQuery = entityManager.createQuery(
+                                "select id from Speaker where name is null and id > ?1 order by id", Long.class)
+                        .setParameter(1, cursor.id());
+            } else if (sortField.equals("name")) {
+                idQuery = entityManager.createQuery(
+                                "select id from Speaker where (name, id) > (?1, ?2) or name is null"
+                                        + " order by " + orderBy(sortField), Long.class)
+                        .setParameter(1, cursor.name())
+                        .setParameter(2, cursor.id());
+            } else {
+                idQuery = entityManager.createQuery(
+                                "select id from Speaker where id > ?1 order by id", Long.class)
+                        .setParameter(1, cursor.id());
+            }
+        }
+
+        List<Speaker> speakers = findWithTalks(idQuery.setMaxResults(pageSize).getResultList(), sortField);
+        String next = speakers.size() < pageSize
+                ? null
+                : SpeakerCursor.of(sortField, speakers.get(speakers.size() - 1)).encode();
+
+        Response.ResponseBuilder response = Response.ok(new SpeakerPage(speakers, next));
+        if (count) {
+            response.header("X-Total-Count", speakerCount.get());
+        }
+        return response.build();
     }
 
     @POST
@@ -53,6 +125,7 @@ public class SpeakerResource {
     )
     public Response createSpeaker(Speaker newSpeaker, @Context UriInfo uriInfo) {
         newSpeaker.persist();
+        speakersChanged.fire(new SpeakersChanged());
 
         return Response.created(generateUriForSpeaker(newSpeaker, uriInfo))
                 .header("id", newSpeaker.id)
@@ -66,12 +139,31 @@ public class SpeakerResource {
         if (!Speaker.deleteById(id)) {
             throw new NotFoundException();
         }
+        speakersChanged.fire(new SpeakersChanged());
     }
 
     private URI generateUriForSpeaker(Speaker speaker, UriInfo uriInfo) {
         return uriInfo.getAbsolutePathBuilder().path("/{id}").build(speaker.id);
     }
 
+    // Loads the talks in the same query: fetching the collection in the paged
+    // query itself would make Hibernate apply the limit in memory
+    private List<Speaker> findWithTalks(List<Long> ids, String sortField) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return Speaker.find("id in ?1",
+                        Sort.by(sortField, Sort.Direction.Ascending, Sort.NullPrecedence.NULLS_LAST).and("id"), ids)
+                .withHint(HINT_SPEC_FETCH_GRAPH, Speaker.getEntityManager().getEntityGraph(Speaker.WITH_TALKS))
+                .list();
+    }
+
+    // Speakers without a name sort last, the same on every database
+    private String orderBy(String sortField) {
+        return sortField.equals("name") ? "name nulls last, id" : "id";
+    }
+
     private String filterSortBy(String sortBy) {
         if (!sortBy.equals("id") && !sortBy.equals("name")){
             return "id";
@@ -0,0 +1,5 @@
+package com.bcp.training.speaker;
+
+// CDI event fired by every speaker write, observed once the transaction commits
+public class SpeakersChanged {
+}
@@ -1,16 +1,29 @@
 package com.bcp.training.speaker;
 import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @QuarkusTest
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class SpeakerResourceTest {
 
+    @Inject
+    SessionFactory sessionFactory;
+
     private final String[] samples = {
             "{\"name\":\"Pablo\",\"organization\":\"Red Hat\",\"talks\":[{\"title\":\"Lorem ipsum dolor sit amet\",\"duration\":15}]}",
             "{\"name\":\"Noelia\",\"organization\":\"Red Hat\",\"talks\":[{\"title\":\"Consectetur adipiscing elit\",\"duration\":20}]}",
@@ -168,5 +181,158 @@ public class SpeakerResourceTest {
                         "[0].name", is("Noelia")
                 );
     }
-}
 
+    @Test
+    @Order(5)
+    public void listingRunsTheSameNumberOfStatementsForAnyPageSize() {
+        for (int i = 0; i < 10; i++) {
+            given()
+                    .body("{\"name\":\"Speaker " + i + "\",\"talks\":[{\"title\":\"A\",\"duration\":10},{\"title\":\"B\",\"duration\":20}]}")
+                    .contentType("application/json")
+                    .when()
+                    .post("/speakers")
+                    .then()
+                    .statusCode(201);
+        }
+
+        assertEquals(statementsToList(2), statementsToList(10));
+    }
+
+    @Test
+    @Order(6)
+    public void seekingVisitsEverySpeakerOnceInSortOrder() {
+        List<String> expected = given()
+                .when()
+                .get("/speakers?sortBy=name&pageSize=100")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("name", String.class);
+
+        List<String> names = new ArrayList<>();
+        String after = "";
+        do {
+            var page = given()
+                    .queryParam("sortBy", "name")
+                    .queryParam("pageSize", 4)
+                    .queryParam("after", after)
+                    .when()
+                    .get("/speakers/seek")
+                    .then()
+                    .statusCode(200)
+                    .extract().jsonPath();
+            names.addAll(page.getList("speakers.name", String.class));
+            after = page.getString("next");
+        } while (after != null);
+
+        assertEquals(expected, names);
+    }
+
+    @Test
+    @Order(6)
+    public void seekingReportsTheTotalCountOnRequest() {
+        given()
+                .when()
+                .get("/speakers/seek?pageSize=100")
+                .then()
+                .statusCode(200)
+                .header("X-Total-Count", nullValue())
+                .body("next", nullValue());
+
+        given()
+                .when()
+                .get("/speakers/seek?pageSize=1&count=true")
+                .then()
+                .statusCode(200)
+                .header("X-Total-Count", "11")
+                .body("speakers.size()", is(1), "next", notNullValue());
+    }
+
+    @Test
+    @Order(6)
+    public void seekingRejectsInvalidCursors() {
+        given()
+                .when()
+                .get("/speakers/seek?after=not-a-cursor")
+                .then()
+                .statusCode(400);
+
+        String idCursor = given()
+                .when()
+                .get("/speakers/seek?pageSize=1")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getString("next");
+
+        given()
+                .when()
+                .get("/speakers/seek?sortBy=name&after=" + idCursor)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @Order(7)
+    public void totalCountFollowsWrites() {
+        given()
+                .body(samples[0])
+                .contentType("application/json")
+                .when()
+                .post("/speakers")
+                .then()
+                .statusCode(201);
+
+        given()
+                .when()
+                .get("/speakers/seek?count=true")
+                .then()
+                .statusCode(200)
+                .header("X-Total-Count", "12");
+    }
+
+    @Test
+    @Order(8)
+    public void seekingReachesSpeakersWithoutAName() {
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .body("{\"organization\":\"Red Hat\",\"talks\":[]}")
+                    .contentType("application/json")
+                    .when()
+                    .post("/speakers")
+                    .then()
+                    .statusCode(201);
+        }
+
+        List<String> names = new ArrayList<>();
+        String after = "";
+        do {
+            var page = given()
+                    .queryParam("sortBy", "name")
+                    .queryParam("pageSize", 1)
+                    .queryParam("after", after)
+                    .when()
+                    .get("/speakers/seek")
+                    .then()
+                    .statusCode(200)
+                    .extract().jsonPath();
+            names.addAll(page.getList("speakers.name", String.class));
+            after = page.getString("next");
+        } while (after != null);
+
+        assertEquals(14, names.size());
+        assertEquals(Arrays.asList(null, null), names.subList(12, 14));
+    }
+
+    private long statementsToList(int pageSize) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+                .when()
+                .get("/speakers?pageSize=" + pageSize)
+                .then()
+                .statusCode(200)
+                .body("$.size()", is(pageSize), "[0].talks.size()", is(1));
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 
 import jakarta.json.bind.annotation.JsonbCreator;
 import jakarta.json.bind.annotation.JsonbTransient;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +14,7 @@ import jakarta.persistence.OneToMany;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 @Entity
+@Cacheable
 public class Associate extends PanacheEntity {
     public String name;
 
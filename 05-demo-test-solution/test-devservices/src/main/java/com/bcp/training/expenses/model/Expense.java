@@ -11,12 +11,18 @@ import jakarta.json.bind.annotation.JsonbTransient;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 @Entity
+@Table(indexes = @Index(name = "expense_amount_associate_id_idx", columnList = "amount, associate_id, id"))
 public class Expense extends PanacheEntity {
 
     enum PaymentMethod {
@@ -39,6 +45,9 @@ public class Expense extends PanacheEntity {
     @Column(name = "associate_id")
     public Long associateId;
 
+    @Version
+    public long version;
+
     public Expense() {
     }
 
@@ -68,18 +77,17 @@ public class Expense extends PanacheEntity {
         }
     }
 
-    public static void update(final Expense expense) throws RuntimeException{
-        Optional<Expense> previousExpense = Expense.findByIdOptional(expense.id);
+    public static void update(final Expense expense) {
+        int updatedExpenses = Expense.update(
+                "uuid = ?1, name = ?2, amount = ?3, paymentMethod = ?4, version = version + 1"
+                        + " where id = ?5 and version = ?6",
+                expense.uuid, expense.name, expense.amount, expense.paymentMethod, expense.id, expense.version);
 
-        previousExpense.ifPresentOrElse((updatedExpense) -> {
-            updatedExpense.uuid = expense.uuid;
-            updatedExpense.name = expense.name;
-            updatedExpense.amount = expense.amount;
-            updatedExpense.paymentMethod = expense.paymentMethod;
-            updatedExpense.persist();
-        }, () -> {
-            throw new RuntimeException();
-        });
+        if (updatedExpenses == 0) {
+            throw new WebApplicationException(Expense.count("id", expense.id) == 0
+                    ? Response.Status.NOT_FOUND
+                    : Response.Status.CONFLICT);
+        }
     }
 
 }
\ No newline at end of file
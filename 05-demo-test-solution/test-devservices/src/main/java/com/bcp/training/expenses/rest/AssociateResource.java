@@ -6,6 +6,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.List;
 
@@ -16,6 +17,8 @@ public class AssociateResource {
 
     @GET
     public List<Associate> list() {
-        return Associate.listAll();
+        return Associate.findAll()
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .list();
     }
 }
\ No newline at end of file
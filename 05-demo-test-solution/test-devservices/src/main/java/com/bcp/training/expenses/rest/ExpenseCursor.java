@@ -0,0 +1,34 @@
+package com.bcp.training.expenses.rest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.bcp.training.expenses.model.ExpenseView;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+// Opaque continuation token holding the sort key of the last expense of a page
+public record ExpenseCursor(BigDecimal amount, Long associateId, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ExpenseCursor of(final ExpenseView expense) {
+        return new ExpenseCursor(expense.amount(), expense.associateId(), expense.id());
+    }
+
+    public static ExpenseCursor decode(final String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            return new ExpenseCursor(new BigDecimal(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+    }
+
+    public String encode() {
+        String raw = amount.toPlainString() + SEPARATOR + associateId + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
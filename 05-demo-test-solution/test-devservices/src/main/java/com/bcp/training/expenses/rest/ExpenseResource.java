@@ -3,9 +3,11 @@ package com.bcp.training.expenses.rest;
 
 
 import com.bcp.training.expenses.model.Expense;
+import com.bcp.training.expenses.model.ExpenseView;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -15,16 +17,44 @@ import java.util.List;
 import java.util.UUID;
 
 @Path("/expenses")
+@RunOnVirtualThread
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class ExpenseResource {
 
     @GET
-    public List<Expense> list(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
-                              @DefaultValue("1") @QueryParam("pageNum") int pageNum) {
+    public List<ExpenseView> list(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
+                                  @DefaultValue("1") @QueryParam("pageNum") int pageNum) {
         PanacheQuery<Expense> expenseQuery = Expense.findAll(
                 Sort.by("amount").and("associateId"));
-        return expenseQuery.page(Page.of(pageNum - 1, pageSize)).list();
+        return expenseQuery.project(ExpenseView.class).page(Page.of(pageNum - 1, pageSize)).list();
+    }
+
+    @GET
+    @Path("seek")
+    public ExpensePage seek(@DefaultValue("5") @QueryParam("pageSize") int pageSize,
+                            @QueryParam("after") String after) {
+        if (pageSize < 1) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+
+        Sort sort = Sort.by("amount").and("associateId").and("id");
+        PanacheQuery<Expense> expenseQuery;
+
+        if (after == null || after.isBlank()) {
+            expenseQuery = Expense.findAll(sort);
+        } else {
+            ExpenseCursor cursor = ExpenseCursor.decode(after);
+            expenseQuery = Expense.find("(amount, associateId, id) > (?1, ?2, ?3)", sort,
+                    cursor.amount(), cursor.associateId(), cursor.id());
+        }
+
+        List<ExpenseView> expenses = expenseQuery.project(ExpenseView.class).range(0, pageSize - 1).list();
+        String next = expenses.size() < pageSize
+                ? null
+                : ExpenseCursor.of(expenses.get(expenses.size() - 1)).encode();
+
+        return new ExpensePage(expenses, next);
     }
 
     @POST
@@ -54,10 +84,6 @@ public class ExpenseResource {
     @PUT
     @Transactional
     public void update(final Expense expense) {
-        try {
-            Expense.update(expense);
-        } catch (RuntimeException e) {
-            throw new WebApplicationException(Response.Status.NOT_FOUND);
-        }
+        Expense.update(expense);
     }
 }
\ No newline at end of file
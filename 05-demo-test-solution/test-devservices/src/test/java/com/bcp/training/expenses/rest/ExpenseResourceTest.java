@@ -0,0 +1,68 @@
+package com.bcp.training.expenses.rest;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@QuarkusTest
+@TestHTTPEndpoint( ExpenseResource.class )
+@WithPostgresDB(name = "tc-test", username = "tc-user", password = "tc-pass")
+public class ExpenseResourceTest {
+
+    @Test
+    public void testSeekWalksEveryExpenseOnce() {
+        List<Long> offsetIds = given()
+                .queryParam( "pageSize", 100 )
+                .when().get()
+                .then()
+                .statusCode( 200 )
+                .extract()
+                .jsonPath()
+                .getList( "id", Long.class );
+
+        List<Long> seekIds = new ArrayList<>();
+        String next = null;
+        do {
+            JsonPath page = given()
+                    .queryParam( "pageSize", 3 )
+                    .queryParam( "after", next == null ? "" : next )
+                    .when().get( "seek" )
+                    .then()
+                    .statusCode( 200 )
+                    .extract()
+                    .jsonPath();
+            seekIds.addAll( page.getList( "expenses.id", Long.class ) );
+            next = page.getString( "next" );
+        } while ( next != null );
+
+        assertThat( seekIds )
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf( offsetIds );
+    }
+
+    @Test
+    public void testSeekRejectsMalformedToken() {
+        given()
+                .queryParam( "after", "not-a-token" )
+                .when().get( "seek" )
+                .then()
+                .statusCode( 400 );
+    }
+
+    @Test
+    public void testSeekRejectsNonPositivePageSize() {
+        given()
+                .queryParam( "pageSize", 0 )
+                .when().get( "seek" )
+                .then()
+                .statusCode( 400 );
+    }
+}
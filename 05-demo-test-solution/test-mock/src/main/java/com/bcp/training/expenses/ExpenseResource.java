@@ -1,10 +1,12 @@
 package com.bcp.training.expenses;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.headers.Header;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
-import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -23,8 +25,10 @@ import java.util.UUID;
 public class ExpenseResource {
 
     @Inject
-    @RestClient
-    FraudScoreService fraudScoreService;
+    FraudScoreCache fraudScoreCache;
+
+    @ConfigProperty(name = "fraud-score.bucket-size", defaultValue = "1")
+    double fraudScoreBucketSize;
 
     @Inject
     public ExpenseService expenseService;
@@ -120,8 +124,18 @@ public class ExpenseResource {
             responseCode = "400",
             description = "Invalid entity"
     )
+    @APIResponse(
+            responseCode = "503",
+            description = "Fraud score service busy or not responding"
+    )
     public Response fraudScore(Expense expense) {
-        FraudScore fraud = fraudScoreService.getByAmount(expense.amount);
+        FraudScore fraud;
+        try {
+            long bucket = (long) Math.floor(expense.amount / fraudScoreBucketSize);
+            fraud = fraudScoreCache.getByBucket(bucket, expense.amount);
+        } catch (BulkheadException | TimeoutException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+        }
 
         if (fraud.score > 200) {
             return Response.status(Response.Status.BAD_REQUEST).build();
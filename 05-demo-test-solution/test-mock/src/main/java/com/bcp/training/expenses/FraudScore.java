@@ -3,6 +3,9 @@ package com.bcp.training.expenses;
 public class FraudScore {
     public int score;
 
+    public FraudScore() {
+    }
+
     public FraudScore(int score) {
         this.score = score;
     }
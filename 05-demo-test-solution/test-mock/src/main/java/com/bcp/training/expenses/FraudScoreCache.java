@@ -0,0 +1,31 @@
+package com.bcp.training.expenses;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+/**
+ * Scores amounts through the external fraud service, caching the score of each amount bucket.
+ * Concurrent lookups of a bucket that is being scored wait for that single call instead of
+ * issuing their own, and only those calls count against the bulkhead.
+ */
+@ApplicationScoped
+public class FraudScoreCache {
+
+    public static final String CACHE_NAME = "fraud-scores";
+
+    @Inject
+    @RestClient
+    FraudScoreService fraudScoreService;
+
+    @CacheResult(cacheName = CACHE_NAME)
+    @Timeout(value = 2000)
+    @Bulkhead(value = 10)
+    public FraudScore getByBucket(@CacheKey long bucket, double amount) {
+        return fraudScoreService.getByAmount(amount);
+    }
+}
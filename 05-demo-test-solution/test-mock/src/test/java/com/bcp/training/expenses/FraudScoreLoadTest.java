@@ -0,0 +1,79 @@
+package com.bcp.training.expenses;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntToDoubleFunction;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+public class FraudScoreLoadTest {
+
+    private static final int CLIENTS = 50;
+
+    @Test
+    public void identicalAmountBucketsAreScoredOnce() throws Exception {
+        FraudScoreStub.reset(100);
+        double[] amounts = {2001, 2001.5, 2002, 2003, 20004};
+
+        List<Integer> statuses = score(500, i -> amounts[i % amounts.length]);
+
+        assertTrue(statuses.stream().allMatch(status -> status == 200 || status == 400));
+        assertEquals(100, statuses.stream().filter(status -> status == 400).count());
+        assertEquals(4, FraudScoreStub.calls.get());
+    }
+
+    @Test
+    public void bulkheadLimitsConcurrentCallsToTheScorer() throws Exception {
+        FraudScoreStub.reset(300);
+
+        List<Integer> statuses = score(40, i -> 3000 + i);
+
+        assertTrue(statuses.stream().allMatch(status -> status == 200 || status == 503));
+        assertTrue(FraudScoreStub.maxInFlight.get() <= 10);
+    }
+
+    @Test
+    public void cacheMetricsArePublished() {
+        given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("cache=\"fraud-scores\""));
+    }
+
+    private List<Integer> score(int requests, IntToDoubleFunction amountOf) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                double amount = amountOf.applyAsDouble(i);
+                futures.add(executor.submit(() -> given()
+                        .body(CrudTest.generateExpenseJson("", "Expense", "CASH", amount))
+                        .contentType(ContentType.JSON)
+                        .when()
+                        .post("/expenses/score")
+                        .statusCode()));
+            }
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bcp.training.expenses;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local stand-in for the external fraud score service, served by the application under test
+@Path("/score")
+@Produces(MediaType.APPLICATION_JSON)
+public class FraudScoreStub {
+
+    static final AtomicInteger calls = new AtomicInteger();
+    static final AtomicInteger inFlight = new AtomicInteger();
+    static final AtomicInteger maxInFlight = new AtomicInteger();
+
+    static volatile long delayMillis = 100;
+
+    @GET
+    public FraudScore score(@QueryParam("amount") double amount) throws InterruptedException {
+        calls.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(delayMillis);
+            return new FraudScore(amount > 10000 ? 500 : 100);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    static void reset(long delay) {
+        delayMillis = delay;
+        calls.set(0);
+        maxInFlight.set(0);
+    }
+}
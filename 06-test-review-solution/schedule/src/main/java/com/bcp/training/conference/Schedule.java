@@ -1,15 +1,23 @@
 package com.bcp.training.conference;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 /**
  * Representation of the entity Schedule
@@ -18,8 +26,18 @@ import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
  *
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "schedule_date_start_idx", columnList = "date, startTime, endDateTime"),
+        @Index(name = "schedule_venue_date_start_idx", columnList = "venue_id, date, startTime")
+})
 public class Schedule extends PanacheEntityBase {
 
+    // Whole seconds, TIME columns would round LocalTime.MAX up to midnight
+    static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    // Longer schedules are rejected, so one running at some time started on that day or the previous one
+    static final Duration MAX_DURATION = Duration.ofDays(1);
+
     @Id
     @GeneratedValue
     public int id;
@@ -33,6 +51,53 @@ public class Schedule extends PanacheEntityBase {
 
     public Duration duration;
 
+    // Stored so that time range queries compare indexed columns instead of computing startTime + duration
+    public LocalDateTime endDateTime;
+
+    @PrePersist
+    @PreUpdate
+    void computeEndDateTime() {
+        endDateTime = endDateTimeOf(date, startTime, duration);
+    }
+
+    static LocalDateTime endDateTimeOf(final LocalDate date, final LocalTime startTime, final Duration duration) {
+        if (null == date || null == startTime || null == duration) {
+            return null;
+        }
+        return date.atTime(startTime).plus(duration);
+    }
+
+    /**
+     * Schedules running at the given time, including those started the day before and running past midnight.
+     * Only schedules starting on that day or the previous one are looked up, see {@link #MAX_DURATION}.
+     */
+    public static List<Schedule> activeAt(final LocalDateTime dateTime) {
+        return list("date >= :previousDate and date <= :date"
+                        + " and (date < :date or startTime < :time)"
+                        + " and endDateTime > :dateTime",
+                Sort.by("date").and("startTime"),
+                Parameters.with("previousDate", dateTime.toLocalDate().minusDays(1))
+                        .and("date", dateTime.toLocalDate())
+                        .and("time", dateTime.toLocalTime())
+                        .and("dateTime", dateTime));
+    }
+
+    /**
+     * Schedules of a venue that overlap the given range, which may span several days. As with
+     * {@link #activeAt(LocalDateTime)}, schedules starting more than a day before the range are not looked up.
+     */
+    public static List<Schedule> activeInVenue(final int venueId, final LocalDateTime from, final LocalDateTime to) {
+        return list("venueId = :venueId and date >= :fromPreviousDate and date <= :toDate"
+                        + " and endDateTime > :from"
+                        + " and (date < :toDate or startTime < :toTime)",
+                Sort.by("date").and("startTime"),
+                Parameters.with("venueId", venueId)
+                        .and("fromPreviousDate", from.toLocalDate().minusDays(1))
+                        .and("from", from)
+                        .and("toDate", to.toLocalDate())
+                        .and("toTime", to.toLocalTime()));
+    }
+
     public static long deleteById(int id) {
         return delete("id = ?1",id);
     }
@@ -45,6 +110,7 @@ public class Schedule extends PanacheEntityBase {
                 s.date=newSched.date;
                 s.startTime=newSched.startTime;
                 s.duration=newSched.duration;
+                s.computeEndDateTime();
                 return s;
             }).orElseThrow().persist();
         }
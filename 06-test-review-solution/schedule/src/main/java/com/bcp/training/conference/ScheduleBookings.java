@@ -0,0 +1,294 @@
+package com.bcp.training.conference;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Interval index of the booked time ranges per venue and day, so a schedule that would
+ * double-book its venue is rejected with a single O(log n) lookup.
+ *
+ * Writers to the same venue and day are serialized until their transaction completes and
+ * the index only changes once a write has committed, so concurrent inserts cannot both
+ * pass the check. A day whose stored schedules already overlap is checked by scanning its
+ * bookings instead. Days nobody booked for a while are dropped and reloaded when next booked.
+ */
+@ApplicationScoped
+public class ScheduleBookings {
+
+    private static final Comparator<VenueDay> VENUE_DAY_ORDER =
+            Comparator.comparingInt(VenueDay::venueId).thenComparing(VenueDay::date);
+
+    // By start time, the schedule id keeps stored bookings with the same start apart
+    private static final Comparator<Booking> BOOKING_ORDER =
+            Comparator.comparing(Booking::start).thenComparingInt(Booking::scheduleId);
+
+    @Inject
+    TransactionSynchronizationRegistry transactions;
+
+    @ConfigProperty(name = "schedule.bookings.idle-timeout", defaultValue = "10m")
+    Duration idleTimeout;
+
+    private final Map<VenueDay, Day> days = new ConcurrentHashMap<>();
+
+    private volatile long lastEviction = System.nanoTime();
+
+    public record TimeSlot(LocalTime start, LocalTime end) {
+    }
+
+    record VenueDay(int venueId, LocalDate date) {
+    }
+
+    private record Booking(int scheduleId, LocalTime start, LocalTime end) {
+    }
+
+    // The part of a schedule that falls on one venue day
+    private record Segment(VenueDay venueDay, LocalTime start, LocalTime end) {
+
+        Booking bookedBy(final int scheduleId) {
+            return new Booking(scheduleId, start, end);
+        }
+    }
+
+    private static final class Day {
+        // Taken from the check until the transaction completes, released by whichever thread completes it
+        final Semaphore permit = new Semaphore(1);
+        // Bookings normally never overlap, so ordered by start time their end times are ordered too
+        final NavigableSet<Booking> bookings = new ConcurrentSkipListSet<>(BOOKING_ORDER);
+        volatile boolean loaded;
+        // Set when the stored schedules of the day already overlap, conflicts are then found by a scan
+        volatile boolean overlapping;
+        volatile long lastUsed = System.nanoTime();
+        // Set once removed from the index, holders of a stale reference look the day up again
+        volatile boolean evicted;
+    }
+
+    /**
+     * Checks that the schedule does not overlap another booking of its venue and holds the
+     * venue days it falls on until the current transaction completes. A schedule running past
+     * midnight also books the following day.
+     *
+     * @param previous the stored schedule when it is being updated, read before it is changed
+     */
+    public void reserve(final Schedule schedule, final Schedule previous) {
+        if (null != schedule.duration && !schedule.duration.isPositive()) {
+            throw new BadRequestException("duration must be positive");
+        }
+        if (null != schedule.duration && schedule.duration.compareTo(Schedule.MAX_DURATION) > 0) {
+            throw new BadRequestException("duration must not exceed a day");
+        }
+
+        final List<Segment> released = null == previous ? List.of() : segmentsOf(previous);
+        final List<Segment> requested = segmentsOf(schedule);
+        final int ownId = null == previous ? -1 : previous.id;
+
+        final List<VenueDay> held = Stream.concat(released.stream(), requested.stream())
+                .map(Segment::venueDay)
+                .toList();
+
+        hold(held, () -> {
+            final int scheduleId = null == previous ? schedule.id : previous.id;
+            released.forEach(segment -> day(segment.venueDay()).bookings.remove(segment.bookedBy(scheduleId)));
+            requested.forEach(segment -> day(segment.venueDay()).bookings.add(segment.bookedBy(scheduleId)));
+        });
+
+        for (final Segment segment : requested) {
+            conflict(day(segment.venueDay()), segment, ownId).ifPresent(other -> {
+                throw new ClientErrorException("Venue " + schedule.venueId + " is already booked on "
+                        + segment.venueDay().date() + " from " + other.start() + " to " + other.end()
+                        + " by schedule " + other.scheduleId(), Response.Status.CONFLICT);
+            });
+        }
+    }
+
+    /**
+     * Frees the time range of a schedule once the current transaction deleting it commits.
+     */
+    public void release(final Schedule schedule) {
+        final List<Segment> segments = segmentsOf(schedule);
+        hold(segments.stream().map(Segment::venueDay).toList(),
+                () -> segments.forEach(segment -> day(segment.venueDay()).bookings.remove(segment.bookedBy(schedule.id))));
+    }
+
+    public List<TimeSlot> freeSlots(final int venueId, final LocalDate date) {
+        final VenueDay venueDay = new VenueDay(venueId, date);
+        // Days nobody booked are read from the database and not indexed, so any venue and date can be asked for
+        final Day day = days.get(venueDay);
+        final NavigableSet<Booking> bookings = null != day && day.loaded && !day.evicted
+                ? day.bookings
+                : stored(venueDay);
+
+        final List<TimeSlot> free = new ArrayList<>();
+        LocalTime cursor = LocalTime.MIDNIGHT;
+        for (final Booking booking : bookings) {
+            if (booking.start().isAfter(cursor)) {
+                free.add(new TimeSlot(cursor, booking.start()));
+            }
+            if (booking.end().isAfter(cursor)) {
+                cursor = booking.end();
+            }
+        }
+        if (cursor.isBefore(Schedule.END_OF_DAY)) {
+            free.add(new TimeSlot(cursor, Schedule.END_OF_DAY));
+        }
+        return free;
+    }
+
+    private void hold(final List<VenueDay> venueDays, final Runnable onCommit) {
+        if (System.nanoTime() - lastEviction >= idleTimeout.toNanos()) {
+            lastEviction = System.nanoTime();
+            evictIdleDays(idleTimeout);
+        }
+
+        final List<Day> held = new ArrayList<>();
+        // Registered first, so permits are released even if loading a day fails
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                try {
+                    if (status == Status.STATUS_COMMITTED) {
+                        onCommit.run();
+                    }
+                } finally {
+                    held.forEach(day -> day.permit.release());
+                }
+            }
+        });
+
+        // Always in the same order, so two writers moving schedules between days cannot deadlock
+        final TreeSet<VenueDay> ordered = new TreeSet<>(VENUE_DAY_ORDER);
+        ordered.addAll(venueDays);
+        for (final VenueDay venueDay : ordered) {
+            Day day = day(venueDay);
+            day.permit.acquireUninterruptibly();
+            while (day.evicted) {
+                day.permit.release();
+                day = day(venueDay);
+                day.permit.acquireUninterruptibly();
+            }
+            day.lastUsed = System.nanoTime();
+            held.add(day);
+            load(venueDay, day);
+        }
+    }
+
+    /**
+     * Drops the days not booked for the given time whose permit is free, they are reloaded when next booked.
+     */
+    void evictIdleDays(final Duration idle) {
+        final long now = System.nanoTime();
+        days.forEach((venueDay, day) -> {
+            if (now - day.lastUsed >= idle.toNanos() && day.permit.tryAcquire()) {
+                try {
+                    day.evicted = true;
+                    days.remove(venueDay, day);
+                } finally {
+                    day.permit.release();
+                }
+            }
+        });
+    }
+
+    private Day day(final VenueDay venueDay) {
+        return days.computeIfAbsent(venueDay, key -> new Day());
+    }
+
+    // Only called while holding the permit of the day
+    private static void load(final VenueDay venueDay, final Day day) {
+        if (day.loaded) {
+            return;
+        }
+        LocalTime reached = LocalTime.MIDNIGHT;
+        for (final Booking booking : stored(venueDay)) {
+            if (booking.start().isBefore(reached)) {
+                day.overlapping = true;
+            }
+            if (booking.end().isAfter(reached)) {
+                reached = booking.end();
+            }
+            day.bookings.add(booking);
+        }
+        day.loaded = true;
+    }
+
+    // The bookings of schedules starting on the day and of those running into it from the previous day
+    private static NavigableSet<Booking> stored(final VenueDay venueDay) {
+        final NavigableSet<Booking> bookings = new TreeSet<>(BOOKING_ORDER);
+        final List<Schedule> schedules = Schedule.list(
+                "venueId = ?1 and date >= ?2 and date <= ?3 and endDateTime > ?4",
+                venueDay.venueId(), venueDay.date().minusDays(1), venueDay.date(), venueDay.date().atStartOfDay());
+        for (final Schedule schedule : schedules) {
+            segmentsOf(schedule).stream()
+                    .filter(segment -> segment.venueDay().equals(venueDay))
+                    .forEach(segment -> bookings.add(segment.bookedBy(schedule.id)));
+        }
+        return bookings;
+    }
+
+    private static Optional<Booking> conflict(final Day day, final Segment requested, final int ownId) {
+        if (day.overlapping) {
+            return day.bookings.stream()
+                    .filter(booking -> booking.scheduleId() != ownId)
+                    .filter(booking -> booking.start().isBefore(requested.end())
+                            && booking.end().isAfter(requested.start()))
+                    .findFirst();
+        }
+
+        // The booking starting last before the requested end is the only one that can overlap it
+        Booking candidate = day.bookings.lower(new Booking(Integer.MIN_VALUE, requested.end(), requested.end()));
+        if (null != candidate && candidate.scheduleId() == ownId) {
+            candidate = day.bookings.lower(candidate);
+        }
+        return Optional.ofNullable(candidate)
+                .filter(booking -> booking.end().isAfter(requested.start()));
+    }
+
+    // Schedules without a start time or a positive duration do not occupy their venue
+    private static List<Segment> segmentsOf(final Schedule schedule) {
+        if (null == schedule.date || null == schedule.startTime
+                || null == schedule.duration || !schedule.duration.isPositive()) {
+            return List.of();
+        }
+
+        final LocalDateTime end = Schedule.endDateTimeOf(schedule.date, schedule.startTime, schedule.duration);
+        final List<Segment> segments = new ArrayList<>();
+        LocalDateTime start = schedule.date.atTime(schedule.startTime);
+        while (start.isBefore(end)) {
+            final LocalDateTime nextDay = start.toLocalDate().plusDays(1).atStartOfDay();
+            final LocalTime segmentEnd = end.isBefore(nextDay) ? end.toLocalTime() : Schedule.END_OF_DAY;
+            if (start.toLocalTime().isBefore(segmentEnd)) {
+                segments.add(new Segment(new VenueDay(schedule.venueId, start.toLocalDate()),
+                        start.toLocalTime(), segmentEnd));
+            }
+            start = nextDay;
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bcp.training.conference;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Adds the endDateTime column and the indexes of Schedule to databases whose schema is not generated,
+ * such as the prod H2, and fills in the end of the schedules stored before the column existed.
+ * Every statement is a no-op once the database is up to date.
+ */
+@ApplicationScoped
+public class ScheduleEndDateTimeMigration {
+
+    @Transactional
+    void migrate(@Observes final StartupEvent event) {
+        final EntityManager entityManager = Schedule.getEntityManager();
+        entityManager.createNativeQuery("alter table Schedule add column if not exists endDateTime timestamp(6)")
+                .executeUpdate();
+        entityManager.createNativeQuery("create index if not exists schedule_date_start_idx"
+                        + " on Schedule (date, startTime, endDateTime)")
+                .executeUpdate();
+        entityManager.createNativeQuery("create index if not exists schedule_venue_date_start_idx"
+                        + " on Schedule (venue_id, date, startTime)")
+                .executeUpdate();
+
+        Schedule.<Schedule>list("endDateTime is null and date is not null"
+                        + " and startTime is not null and duration is not null")
+                .forEach(Schedule::computeEndDateTime);
+    }
+}
@@ -3,11 +3,10 @@ package com.bcp.training.conference;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
@@ -19,19 +18,26 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 @RequestScoped
 @Path("/schedule")
+@RunOnVirtualThread
 @Produces(MediaType.APPLICATION_JSON)
 public class ScheduleResource {
 
+    @Inject
+    ScheduleBookings bookings;
+
     @POST
     @Consumes("application/json")
     @Transactional
     public Response add (final Schedule schedule) {
+        bookings.reserve(schedule, null);
         schedule.persist();
         return Response.created(URI.create("/schedule/" + schedule.id))
                 .entity(schedule)
@@ -47,6 +53,10 @@ public class ScheduleResource {
             throw new BadRequestException();
         }
 
+        final Schedule existing = Schedule.<Schedule>findByIdOptional(id)
+                .orElseThrow(NotFoundException::new);
+        bookings.reserve(schedule, existing);
+
         final Schedule created = Schedule.merge(id, schedule);
         return Response.created(URI.create("/schedule/" + created.id))
                 .entity(created)
@@ -84,15 +94,44 @@ public class ScheduleResource {
     @Path("/active/{dateTime}")
     public Response activeAtDate (@PathParam("dateTime") final String dateTimeString) {
         final LocalDateTime dateTime = LocalDateTime.parse(dateTimeString);
-        final List<Schedule> schedulesByDate = Schedule.find("date", dateTime.toLocalDate()).list();
-        final List<Schedule> activeAtTime = schedulesByDate.stream()
-                .filter(schedule -> isTimeInSchedule(dateTime.toLocalTime(), schedule))
-                .collect(Collectors.toList());
+        final List<Schedule> activeAtTime = Schedule.activeAt(dateTime);
         final GenericEntity<List<Schedule>> entity = buildEntity(activeAtTime);
         return Response.ok(entity)
                 .build();
     }
 
+    @GET
+    @Path("/venue/{venueId}/active")
+    public Response activeInVenue (@PathParam("venueId") final int venueId,
+                                   @QueryParam("from") final String fromString,
+                                   @QueryParam("to") final String toString) {
+        if (null == fromString || null == toString) {
+            throw new BadRequestException("from and to are required");
+        }
+
+        final LocalDateTime from = LocalDateTime.parse(fromString);
+        final LocalDateTime to = LocalDateTime.parse(toString);
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("from must be before to");
+        }
+
+        final GenericEntity<List<Schedule>> entity = buildEntity(Schedule.activeInVenue(venueId, from, to));
+        return Response.ok(entity)
+                .build();
+    }
+
+    @GET
+    @Path("/venue/{venueId}/free-slots")
+    public Response freeSlots (@PathParam("venueId") final int venueId, @QueryParam("date") final String dateString) {
+        if (null == dateString) {
+            throw new BadRequestException("date is required");
+        }
+
+        final List<ScheduleBookings.TimeSlot> freeSlots = bookings.freeSlots(venueId, LocalDate.parse(dateString));
+        return Response.ok(new GenericEntity<List<ScheduleBookings.TimeSlot>>(freeSlots) {})
+                .build();
+    }
+
     @GET
     @Path("/all/{date}")
     public Response allForDay (@PathParam("date") final String dateString) {
@@ -107,22 +146,17 @@ public class ScheduleResource {
     @Path("/{scheduleId}")
     @Transactional
     public Response remove(@PathParam("scheduleId") final int scheduleId) {
-        if (Schedule.deleteById(scheduleId) > 0) {
-            return Response.noContent()
-                    .build();
-        } else {
-            throw new NotFoundException();
-        }
+        final Schedule schedule = Schedule.<Schedule>findByIdOptional(scheduleId)
+                .orElseThrow(NotFoundException::new);
+
+        bookings.release(schedule);
+        schedule.delete();
+        return Response.noContent()
+                .build();
     }
 
     private GenericEntity<List<Schedule>> buildEntity (final List<Schedule> scheduleList) {
         return new GenericEntity<List<Schedule>>(scheduleList) {};
     }
 
-    private boolean isTimeInSchedule (final LocalTime currentTime, final Schedule schedule) {
-        final LocalTime scheduleStartTime = schedule.startTime;
-        final LocalTime scheduleEndTime = scheduleStartTime.plus(schedule.duration);
-        return scheduleStartTime.isBefore(currentTime) && scheduleEndTime.isAfter(currentTime);
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.bcp.training.conference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the indexed "active at" query with loading the whole day and filtering in Java.
+ * Run with {@code mvn test -Dtest=ScheduleQueryBenchmarkTest -Dbenchmark=true}.
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ScheduleQueryBenchmarkTest {
+
+    private static final int SCHEDULES = 100_000;
+    private static final int DAYS = 20;
+    private static final int VENUES = 500;
+    private static final int FIRST_VENUE = 100_000;
+    private static final int CHUNK = 5_000;
+    private static final int QUERIES = 200;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    @Test
+    public void benchmarkActiveQueries() {
+        Random random = new Random(42);
+        for (int from = 0; from < SCHEDULES; from += CHUNK) {
+            QuarkusTransaction.requiringNew().run(() -> {
+                for (int i = 0; i < CHUNK; i++) {
+                    Schedule schedule = new Schedule();
+                    schedule.venueId = FIRST_VENUE + random.nextInt(VENUES);
+                    schedule.date = FIRST_DAY.plusDays(random.nextInt(DAYS));
+                    schedule.startTime = LocalTime.of(8, 0).plusMinutes(15L * random.nextInt(48));
+                    schedule.duration = Duration.ofMinutes(30L + 15L * random.nextInt(7));
+                    schedule.persist();
+                }
+                Schedule.getEntityManager().flush();
+                Schedule.getEntityManager().clear();
+            });
+        }
+
+        LocalDateTime[] probes = new LocalDateTime[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            probes[i] = FIRST_DAY.plusDays(random.nextInt(DAYS)).atTime(8 + random.nextInt(12), random.nextInt(60));
+        }
+
+        for (LocalDateTime probe : probes) {
+            assertThat(Schedule.activeAt(probe).size(), equalTo(filterInJava(probe).size()));
+        }
+
+        long indexed = time(probes, Schedule::activeAt);
+        long filtered = time(probes, ScheduleQueryBenchmarkTest::filterInJava);
+        long venue = time(probes, probe -> Schedule.activeInVenue(FIRST_VENUE + probe.getMinute() % VENUES,
+                probe, probe.plusHours(2)));
+
+        System.out.printf("%d schedules, %d queries each:%n", SCHEDULES, QUERIES);
+        System.out.printf("  active at, indexed query       %6d us/query%n", indexed);
+        System.out.printf("  active at, day filtered in Java %6d us/query%n", filtered);
+        System.out.printf("  venue active in a 2h range     %6d us/query%n", venue);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() -> Schedule.delete("venueId >= ?1", FIRST_VENUE));
+    }
+
+    // What activeAtDate did before the end time was stored
+    private static List<Schedule> filterInJava(LocalDateTime dateTime) {
+        List<Schedule> schedulesByDate = Schedule.find("date", dateTime.toLocalDate()).list();
+        return schedulesByDate.stream()
+                .filter(schedule -> {
+                    LocalTime end = schedule.startTime.plus(schedule.duration);
+                    return schedule.startTime.isBefore(dateTime.toLocalTime()) && end.isAfter(dateTime.toLocalTime());
+                })
+                .toList();
+    }
+
+    private static long time(LocalDateTime[] probes, Function<LocalDateTime, List<Schedule>> query) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            long started = System.nanoTime();
+            for (LocalDateTime probe : probes) {
+                query.apply(probe);
+                Schedule.getEntityManager().clear();
+            }
+            return (System.nanoTime() - started) / 1_000 / probes.length;
+        });
+    }
+}
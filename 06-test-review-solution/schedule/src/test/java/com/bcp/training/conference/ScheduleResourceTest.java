@@ -3,17 +3,30 @@ package com.bcp.training.conference;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
+import jakarta.inject.Inject;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 
 @QuarkusTest
 @TestHTTPEndpoint(ScheduleResource.class)
@@ -22,6 +35,12 @@ public class ScheduleResourceTest {
     private static final int GIVEN_ID = 101;
     private static final int GIVEN_VENUE_ID = 101;
 
+    @Inject
+    ScheduleEndDateTimeMigration migration;
+
+    @Inject
+    ScheduleBookings bookings;
+
     @Test
     public void testRetrieve() {
         given()
@@ -68,4 +87,311 @@ public class ScheduleResourceTest {
         assertThat(scheds, hasSize(count.intValue()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testActiveAtDate() {
+        int morning = addSchedule(2020, "2021-05-10", "09:00:00", "PT2H");
+        int noon = addSchedule(2021, "2021-05-10", "12:00:00", "PT1H");
+
+        given().when()
+                .get("/active/2021-05-10T10:30:00")
+                .then()
+                .statusCode(200)
+                .body("id", contains(morning));
+
+        given().when()
+                .get("/active/2021-05-10T11:00:00")
+                .then()
+                .statusCode(200)
+                .body("id", hasSize(0));
+
+        given().when()
+                .body("{\"venueId\":2021,\"date\":\"2021-05-10\",\"startTime\":\"10:30:00\",\"duration\":\"PT1H\"}")
+                .contentType(ContentType.JSON)
+                .put("/" + noon)
+                .then()
+                .statusCode(201);
+
+        given().when()
+                .get("/active/2021-05-10T11:00:00")
+                .then()
+                .statusCode(200)
+                .body("id", contains(noon));
+
+        int late = addSchedule(2022, "2021-05-10", "23:00:00", "PT3H");
+
+        given().when()
+                .get("/active/2021-05-11T00:30:00")
+                .then()
+                .statusCode(200)
+                .body("id", contains(late));
+
+        given().when()
+                .get("/active/2021-05-11T02:00:00")
+                .then()
+                .statusCode(200)
+                .body("id", hasSize(0));
+    }
+
+    @Test
+    public void testSchedulesStoredWithoutEndAreMigrated() {
+        int stored = addSchedule(2023, "2021-05-20", "09:00:00", "PT1H");
+        QuarkusTransaction.requiringNew().run(() ->
+                Schedule.update("endDateTime = null where id = ?1", stored));
+
+        given().when()
+                .get("/active/2021-05-20T09:30:00")
+                .then()
+                .statusCode(200)
+                .body("id", hasSize(0));
+
+        migration.migrate(null);
+
+        given().when()
+                .get("/active/2021-05-20T09:30:00")
+                .then()
+                .statusCode(200)
+                .body("id", contains(stored));
+    }
+
+    @Test
+    public void testActiveInVenue() {
+        int first = addSchedule(3030, "2021-06-01", "09:00:00", "PT1H");
+        int second = addSchedule(3030, "2021-06-01", "23:00:00", "PT3H");
+        int third = addSchedule(3030, "2021-06-02", "08:00:00", "PT1H");
+        addSchedule(3031, "2021-06-01", "09:00:00", "PT1H");
+
+        given().when()
+                .queryParam("from", "2021-06-01T09:30:00")
+                .queryParam("to", "2021-06-02T08:30:00")
+                .get("/venue/3030/active")
+                .then()
+                .statusCode(200)
+                .body("id", contains(first, second, third));
+
+        given().when()
+                .queryParam("from", "2021-06-02T00:30:00")
+                .queryParam("to", "2021-06-02T07:00:00")
+                .get("/venue/3030/active")
+                .then()
+                .statusCode(200)
+                .body("id", contains(second));
+
+        given().when()
+                .queryParam("from", "2021-06-01T10:00:00")
+                .queryParam("to", "2021-06-01T23:00:00")
+                .get("/venue/3030/active")
+                .then()
+                .statusCode(200)
+                .body("id", hasSize(0));
+
+        given().when()
+                .queryParam("from", "2021-06-01T10:00:00")
+                .get("/venue/3030/active")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testDoubleBookingIsRejected() {
+        int booked = addSchedule(4040, "2021-07-01", "10:00:00", "PT1H");
+
+        scheduleRequest(4040, "2021-07-01", "10:30:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(409);
+
+        scheduleRequest(4040, "2021-07-01", "09:30:00", "PT30M")
+                .post()
+                .then()
+                .statusCode(201);
+
+        // Moving a schedule within its own slot is not a conflict with itself
+        scheduleRequest(4040, "2021-07-01", "10:15:00", "PT1H")
+                .put("/" + booked)
+                .then()
+                .statusCode(201);
+
+        scheduleRequest(4040, "2021-07-01", "09:00:00", "PT1H")
+                .put("/" + booked)
+                .then()
+                .statusCode(409);
+
+        given().when()
+                .delete("/" + booked)
+                .then()
+                .statusCode(204);
+
+        scheduleRequest(4040, "2021-07-01", "10:30:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(201);
+    }
+
+    @Test
+    public void testBookingsRunningPastMidnight() {
+        addSchedule(4041, "2021-07-02", "23:00:00", "PT3H");
+
+        scheduleRequest(4041, "2021-07-03", "00:30:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(409);
+
+        scheduleRequest(4041, "2021-07-03", "02:00:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(201);
+
+        given().when()
+                .queryParam("date", "2021-07-03")
+                .get("/venue/4041/free-slots")
+                .then()
+                .statusCode(200)
+                .body("start", contains("03:00:00"))
+                .body("end", contains("23:59:59"));
+
+        addSchedule(4042, "2021-07-03", "00:30:00", "PT1H");
+
+        scheduleRequest(4042, "2021-07-02", "23:00:00", "PT3H")
+                .post()
+                .then()
+                .statusCode(409);
+
+        scheduleRequest(4042, "2021-07-05", "09:00:00", "PT24H1S")
+                .post()
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testIdleDaysAreReloaded() {
+        int booked = addSchedule(4044, "2021-07-06", "23:00:00", "PT2H");
+
+        bookings.evictIdleDays(Duration.ZERO);
+
+        scheduleRequest(4044, "2021-07-07", "00:30:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(409);
+
+        bookings.evictIdleDays(Duration.ZERO);
+
+        scheduleRequest(4044, "2021-07-06", "22:00:00", "PT1H")
+                .put("/" + booked)
+                .then()
+                .statusCode(201);
+
+        scheduleRequest(4044, "2021-07-07", "00:30:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(201);
+    }
+
+    @Test
+    public void testOverlappingStoredSchedulesAreChecked() {
+        // Stored before bookings were checked, both start at 10:00
+        int shorter = storeSchedule(4043, "2021-07-04", "10:00:00", "PT1H");
+        int longer = storeSchedule(4043, "2021-07-04", "10:00:00", "PT3H");
+
+        scheduleRequest(4043, "2021-07-04", "12:00:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(409);
+
+        given().when()
+                .delete("/" + longer)
+                .then()
+                .statusCode(204);
+
+        scheduleRequest(4043, "2021-07-04", "12:00:00", "PT1H")
+                .post()
+                .then()
+                .statusCode(201);
+
+        scheduleRequest(4043, "2021-07-04", "10:30:00", "PT1H")
+                .put("/" + shorter)
+                .then()
+                .statusCode(201);
+
+        scheduleRequest(4043, "2021-07-04", "11:00:00", "PT2H")
+                .put("/" + shorter)
+                .then()
+                .statusCode(409);
+    }
+
+    @Test
+    public void testFreeSlots() {
+        addSchedule(5050, "2021-08-01", "09:00:00", "PT1H");
+        addSchedule(5050, "2021-08-01", "11:00:00", "PT30M");
+
+        given().when()
+                .queryParam("date", "2021-08-01")
+                .get("/venue/5050/free-slots")
+                .then()
+                .statusCode(200)
+                .body("start", contains("00:00:00", "10:00:00", "11:30:00"))
+                .body("end", contains("09:00:00", "11:00:00", "23:59:59"));
+
+        given().when()
+                .get("/venue/5050/free-slots")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testConcurrentBookingsOfTheSameSlot() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> requests = IntStream.range(0, 16)
+                    .<Callable<Integer>>mapToObj(i -> () -> scheduleRequest(6060, "2021-09-01", "10:00:00", "PT1H")
+                            .post()
+                            .statusCode())
+                    .toList();
+
+            List<Integer> statuses = executor.invokeAll(requests).stream()
+                    .map(ScheduleResourceTest::await)
+                    .toList();
+
+            assertThat(statuses.stream().filter(status -> status == 201).count(), equalTo(1L));
+            assertThat(statuses.stream().filter(status -> status == 409).count(), equalTo(15L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Integer await(Future<Integer> status) {
+        try {
+            return status.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RequestSpecification scheduleRequest(int venueId, String date, String startTime, String duration) {
+        return given()
+                .when()
+                .body("{\"venueId\":" + venueId + ",\"date\":\"" + date + "\",\"startTime\":\"" + startTime
+                        + "\",\"duration\":\"" + duration + "\"}")
+                .contentType(ContentType.JSON);
+    }
+
+    private int storeSchedule(int venueId, String date, String startTime, String duration) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Schedule schedule = new Schedule();
+            schedule.venueId = venueId;
+            schedule.date = LocalDate.parse(date);
+            schedule.startTime = LocalTime.parse(startTime);
+            schedule.duration = Duration.parse(duration);
+            schedule.persist();
+            return schedule.id;
+        });
+    }
+
+    private int addSchedule(int venueId, String date, String startTime, String duration) {
+        return scheduleRequest(venueId, date, startTime, duration)
+                .post()
+                .then()
+                .statusCode(201)
+                .extract().path("id");
+    }
+
+}
@@ -1,29 +1,32 @@
 package com.bcp.training.conference.session;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import com.bcp.training.conference.speaker.SpeakerService;
+import com.bcp.training.conference.speaker.Speaker;
+import com.bcp.training.conference.speaker.SpeakerLookup;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
-import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 
 @ApplicationScoped
 public class SessionStore {
 
     @Inject
-    @RestClient
-    SpeakerService speakerService;
+    SpeakerLookup speakerLookup;
 
     public List<SessionWithSpeaker> getAll() throws Exception {
         List<Session> sessions = Session.findAll().list();
+        Map<Integer, Speaker> speakers = speakerLookup.findByIds( sessions.stream()
+                .map( session -> session.speakerId )
+                .collect( Collectors.toSet() ) );
 
         return sessions.stream()
-                .map( this::toSessionWithSpeaker )
+                .map( session -> session.withSpeaker( speakers.get( session.speakerId ) ) )
                 .collect( Collectors.toList() );
     }
 
@@ -41,7 +44,7 @@ public class SessionStore {
     }
 
     private SessionWithSpeaker toSessionWithSpeaker( Session session ) {
-        var speaker = speakerService.getById( session.speakerId );
+        var speaker = speakerLookup.findById( session.speakerId );
         return session.withSpeaker( speaker );
     }
 
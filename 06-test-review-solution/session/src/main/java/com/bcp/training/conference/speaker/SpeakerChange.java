@@ -0,0 +1,34 @@
+package com.bcp.training.conference.speaker;
+
+/**
+ * A speaker change as published on the speaker service change stream.
+ */
+public class SpeakerChange {
+
+    public enum Type {
+        CONNECTED,
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public Type type;
+    public int id;
+    public String uuid;
+    public String nameFirst;
+    public String nameLast;
+
+    public SpeakerChange() {
+    }
+
+    public SpeakerChange( Type type, int id, String nameFirst, String nameLast ) {
+        this.type = type;
+        this.id = id;
+        this.nameFirst = nameFirst;
+        this.nameLast = nameLast;
+    }
+
+    public Speaker toSpeaker() {
+        return new Speaker( id, nameFirst, nameLast );
+    }
+}
@@ -0,0 +1,92 @@
+package com.bcp.training.conference.speaker;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+/**
+ * Resolves many speakers at once, from the {@link SpeakerReadModel} when it has them and
+ * otherwise through the bulk {@code GET /speaker?ids=} endpoint.
+ * If the bulk lookup fails, the speakers are fetched one by one, in parallel but with a
+ * bounded number of requests in flight. Unknown speakers are left out of the result.
+ */
+@ApplicationScoped
+public class SpeakerLookup {
+
+    @Inject
+    @RestClient
+    SpeakerService speakerService;
+
+    @Inject
+    SpeakerReadModel readModel;
+
+    // Keeps each request line well below the HTTP server limits
+    @ConfigProperty( name = "speaker.lookup.chunk-size", defaultValue = "200" )
+    int chunkSize;
+
+    @ConfigProperty( name = "speaker.lookup.concurrency", defaultValue = "8" )
+    int concurrency;
+
+    public Map<Integer, Speaker> findByIds( Collection<Integer> ids ) {
+        Map<Integer, Speaker> speakers = readModel.findByIds( ids );
+        List<Integer> missing = ids.stream()
+                .filter( id -> !speakers.containsKey( id ) )
+                .toList();
+        if ( missing.isEmpty() ) {
+            return speakers;
+        }
+
+        try {
+            speakers.putAll( findInBulk( missing ) );
+        } catch ( WebApplicationException | ProcessingException e ) {
+            Log.warnf( "Bulk speaker lookup failed (%s), fetching %d speakers individually",
+                    e.getMessage(), missing.size() );
+            speakers.putAll( findIndividually( missing ) );
+        }
+        return speakers;
+    }
+
+    public Speaker findById( int id ) {
+        return readModel.findById( id ).orElseGet( () -> speakerService.getById( id ) );
+    }
+
+    private Map<Integer, Speaker> findInBulk( List<Integer> ids ) {
+        Map<Integer, Speaker> speakers = new HashMap<>();
+
+        for ( int from = 0; from < ids.size(); from += chunkSize ) {
+            String chunk = ids.subList( from, Math.min( from + chunkSize, ids.size() ) ).stream()
+                    .map( String::valueOf )
+                    .collect( Collectors.joining( "," ) );
+            for ( Speaker speaker : speakerService.getByIds( chunk ) ) {
+                speakers.put( speaker.id, speaker );
+            }
+        }
+        return speakers;
+    }
+
+    private Map<Integer, Speaker> findIndividually( Collection<Integer> ids ) {
+        return Multi.createFrom().iterable( ids )
+                .onItem().transformToUni( id -> speakerService.getByIdAsync( id )
+                        .onFailure( SpeakerLookup::isNotFound ).recoverWithNull() )
+                .merge( concurrency )
+                .collect().asMap( speaker -> speaker.id )
+                .await().indefinitely();
+    }
+
+    private static boolean isNotFound( Throwable failure ) {
+        return failure instanceof WebApplicationException e
+                && e.getResponse().getStatus() == Response.Status.NOT_FOUND.getStatusCode();
+    }
+}
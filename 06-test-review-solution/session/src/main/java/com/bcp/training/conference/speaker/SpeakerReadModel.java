@@ -0,0 +1,164 @@
+package com.bcp.training.conference.speaker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+/**
+ * Local copy of the speakers, so sessions are enriched without calling the speaker service.
+ * It is loaded with a full listing every time the speaker change stream (re)connects and
+ * kept current by the create, update and delete events published on that stream.
+ */
+@ApplicationScoped
+public class SpeakerReadModel {
+
+    private static final Duration FIRST_RETRY = Duration.ofSeconds( 1 );
+    private static final Duration MAX_RETRY = Duration.ofSeconds( 30 );
+
+    @Inject
+    @RestClient
+    SpeakerService speakerService;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty( name = "speaker.read-model.enabled", defaultValue = "true" )
+    boolean enabled;
+
+    private final Map<Integer, Speaker> speakers = new ConcurrentHashMap<>();
+
+    private volatile boolean connected;
+    private volatile Instant disconnectedSince = Instant.now();
+    private volatile Instant lastSync;
+    private volatile Instant lastEvent;
+
+    private Counter events;
+    private Counter resyncs;
+    private Cancellable subscription;
+
+    public record Status( boolean enabled, boolean connected, int speakers, Instant lastSync, Instant lastEvent ) {
+    }
+
+    @PostConstruct
+    public void initMeters() {
+        events = registry.counter( "speakerReadModelEvents" );
+        resyncs = registry.counter( "speakerReadModelResyncs" );
+        registry.gauge( "speakerReadModelSize", this, model -> model.speakers.size() );
+        registry.gauge( "speakerReadModelConnected", this, model -> model.connected ? 1 : 0 );
+        // 0 while the change stream is connected, otherwise how long updates may have been missed
+        registry.gauge( "speakerReadModelStalenessSeconds", this,
+                model -> model.connected ? 0 : secondsSince( model.disconnectedSince ) );
+        registry.gauge( "speakerReadModelLastSyncAgeSeconds", this, model -> secondsSince( model.lastSync ) );
+        registry.gauge( "speakerReadModelLastEventAgeSeconds", this, model -> secondsSince( model.lastEvent ) );
+    }
+
+    void onStart( @Observes StartupEvent event ) {
+        if ( !enabled ) {
+            return;
+        }
+
+        subscription = Multi.createFrom().deferred( speakerService::changes )
+                // Resynchronizing blocks on the speaker service, keep it off the event loop
+                .onItem().transformToUniAndConcatenate( change -> Uni.createFrom().item( () -> apply( change ) )
+                        .runSubscriptionOn( Infrastructure.getDefaultWorkerPool() ) )
+                .onCompletion().failWith( () -> new IllegalStateException( "Speaker change stream closed" ) )
+                .onFailure().invoke( this::disconnected )
+                .onFailure().retry().withBackOff( FIRST_RETRY, MAX_RETRY ).indefinitely()
+                .subscribe().with( change -> {
+                } );
+    }
+
+    void onStop( @Observes ShutdownEvent event ) {
+        if ( subscription != null ) {
+            subscription.cancel();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<Speaker> findById( int id ) {
+        return Optional.ofNullable( speakers.get( id ) );
+    }
+
+    public Map<Integer, Speaker> findByIds( Collection<Integer> ids ) {
+        Map<Integer, Speaker> found = new HashMap<>();
+        for ( Integer id : ids ) {
+            Speaker speaker = speakers.get( id );
+            if ( speaker != null ) {
+                found.put( id, speaker );
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Replaces the content with a full listing from the speaker service.
+     */
+    public synchronized Status resync() {
+        Map<Integer, Speaker> snapshot = new HashMap<>();
+        for ( Speaker speaker : speakerService.listAll() ) {
+            snapshot.put( speaker.id, speaker );
+        }
+
+        speakers.keySet().retainAll( snapshot.keySet() );
+        speakers.putAll( snapshot );
+        lastSync = Instant.now();
+        resyncs.increment();
+        Log.infof( "Speaker read model resynchronized with %d speakers", snapshot.size() );
+        return status();
+    }
+
+    public Status status() {
+        return new Status( enabled, connected, speakers.size(), lastSync, lastEvent );
+    }
+
+    // Changes are applied one at a time and never while a resync is replacing the content
+    synchronized SpeakerChange apply( SpeakerChange change ) {
+        switch ( change.type ) {
+            case CONNECTED -> {
+                resync();
+                connected = true;
+                return change;
+            }
+            case CREATED, UPDATED -> speakers.put( change.id, change.toSpeaker() );
+            case DELETED -> speakers.remove( change.id );
+        }
+        lastEvent = Instant.now();
+        events.increment();
+        return change;
+    }
+
+    private void disconnected( Throwable failure ) {
+        if ( connected ) {
+            disconnectedSince = Instant.now();
+        }
+        connected = false;
+        Log.warnf( "Speaker change stream unavailable (%s), reconnecting", failure.getMessage() );
+    }
+
+    private static double secondsSince( Instant instant ) {
+        return instant == null ? Double.NaN : Duration.between( instant, Instant.now() ).toMillis() / 1000.0;
+    }
+}
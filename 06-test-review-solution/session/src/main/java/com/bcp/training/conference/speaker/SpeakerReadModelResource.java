@@ -0,0 +1,27 @@
+package com.bcp.training.conference.speaker;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path( "speakers/read-model" )
+@Produces( MediaType.APPLICATION_JSON )
+public class SpeakerReadModelResource {
+
+    @Inject
+    SpeakerReadModel readModel;
+
+    @GET
+    public SpeakerReadModel.Status status() {
+        return readModel.status();
+    }
+
+    @POST
+    @Path( "/resync" )
+    public SpeakerReadModel.Status resync() {
+        return readModel.resync();
+    }
+}
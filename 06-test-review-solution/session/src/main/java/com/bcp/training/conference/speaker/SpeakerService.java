@@ -1,12 +1,17 @@
 package com.bcp.training.conference.speaker;
 
 import java.util.List;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Path( "/speaker" )
 @RegisterRestClient
@@ -15,7 +20,21 @@ public interface SpeakerService {
     @Produces( MediaType.APPLICATION_JSON )
     public List<Speaker> listAll();
 
+    @GET
+    @Produces( MediaType.APPLICATION_JSON )
+    public List<Speaker> getByIds( @QueryParam( "ids" ) String commaSeparatedIds );
+
     @GET
     @Path( "/{id}" )
     public Speaker getById( @PathParam( "id" ) int id );
-}
\ No newline at end of file
+
+    @GET
+    @Path( "/{id}" )
+    public Uni<Speaker> getByIdAsync( @PathParam( "id" ) int id );
+
+    @GET
+    @Path( "/changes" )
+    @Produces( MediaType.SERVER_SENT_EVENTS )
+    @RestStreamElementType( MediaType.APPLICATION_JSON )
+    public Multi<SpeakerChange> changes();
+}
@@ -0,0 +1,109 @@
+package com.bcp.training.conference.speaker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpeakerLookupTest {
+
+    SpeakerService speakerService;
+    SpeakerReadModel readModel;
+    SpeakerLookup speakerLookup;
+
+    @BeforeEach
+    public void setUp() {
+        speakerService = Mockito.mock( SpeakerService.class );
+        readModel = new SpeakerReadModel();
+        readModel.speakerService = speakerService;
+        readModel.registry = new SimpleMeterRegistry();
+        readModel.initMeters();
+        speakerLookup = new SpeakerLookup();
+        speakerLookup.speakerService = speakerService;
+        speakerLookup.readModel = readModel;
+        speakerLookup.chunkSize = 200;
+        speakerLookup.concurrency = 4;
+    }
+
+    @Test
+    public void resolvesSpeakersInChunkedBulkRequests() {
+        Mockito.when( speakerService.getByIds( Mockito.anyString() ) ).thenAnswer( invocation -> {
+            String ids = invocation.getArgument( 0 );
+            return List.of( ids.split( "," ) ).stream()
+                    .map( id -> speaker( Integer.parseInt( id ) ) )
+                    .toList();
+        } );
+
+        Map<Integer, Speaker> speakers = speakerLookup.findByIds( ids( 450 ) );
+
+        assertThat( speakers ).hasSize( 450 );
+        Mockito.verify( speakerService, Mockito.times( 3 ) ).getByIds( Mockito.anyString() );
+        Mockito.verify( speakerService, Mockito.never() ).getByIdAsync( Mockito.anyInt() );
+    }
+
+    @Test
+    public void fallsBackToBoundedParallelLookups() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Mockito.when( speakerService.getByIds( Mockito.anyString() ) )
+                .thenThrow( new WebApplicationException( 405 ) );
+        Mockito.when( speakerService.getByIdAsync( Mockito.anyInt() ) ).thenAnswer( invocation -> {
+            int id = invocation.getArgument( 0 );
+            if ( id == 0 ) {
+                return Uni.createFrom().failure( new NotFoundException() );
+            }
+            return Uni.createFrom().item( () -> {
+                        maxInFlight.accumulateAndGet( inFlight.incrementAndGet(), Math::max );
+                        return speaker( id );
+                    } )
+                    .onItem().delayIt().by( Duration.ofMillis( 20 ) )
+                    .eventually( inFlight::decrementAndGet );
+        } );
+
+        Map<Integer, Speaker> speakers = speakerLookup.findByIds( ids( 40 ) );
+
+        assertThat( speakers ).hasSize( 39 ).doesNotContainKey( 0 );
+        assertThat( maxInFlight.get() ).isBetween( 1, 4 );
+    }
+
+    @Test
+    public void onlyFetchesSpeakersMissingFromTheReadModel() {
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 1, "First 1", "Last 1" ) );
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 2, "First 2", "Last 2" ) );
+        Mockito.when( speakerService.getByIds( "3" ) ).thenReturn( List.of( speaker( 3 ) ) );
+
+        Map<Integer, Speaker> speakers = speakerLookup.findByIds( Set.of( 1, 2, 3 ) );
+
+        assertThat( speakers ).containsOnlyKeys( 1, 2, 3 );
+        Mockito.verify( speakerService ).getByIds( "3" );
+        Mockito.verifyNoMoreInteractions( speakerService );
+    }
+
+    @Test
+    public void emptyLookupDoesNotCallTheSpeakerService() {
+        assertThat( speakerLookup.findByIds( Set.of() ) ).isEmpty();
+        Mockito.verifyNoInteractions( speakerService );
+    }
+
+    private static Set<Integer> ids( int count ) {
+        return IntStream.range( 0, count ).boxed().collect( Collectors.toSet() );
+    }
+
+    private static Speaker speaker( int id ) {
+        return new Speaker( id, "First " + id, "Last " + id );
+    }
+}
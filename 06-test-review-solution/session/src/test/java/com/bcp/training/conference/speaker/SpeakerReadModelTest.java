@@ -0,0 +1,68 @@
+package com.bcp.training.conference.speaker;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpeakerReadModelTest {
+
+    SpeakerService speakerService;
+    SimpleMeterRegistry registry;
+    SpeakerReadModel readModel;
+
+    @BeforeEach
+    public void setUp() {
+        speakerService = Mockito.mock( SpeakerService.class );
+        registry = new SimpleMeterRegistry();
+        readModel = new SpeakerReadModel();
+        readModel.speakerService = speakerService;
+        readModel.registry = registry;
+        readModel.enabled = true;
+        readModel.initMeters();
+    }
+
+    @Test
+    public void connectingLoadsAFullListing() {
+        Mockito.when( speakerService.listAll() ).thenReturn( List.of(
+                new Speaker( 1, "Pablo", "Solar" ),
+                new Speaker( 2, "Jordi", "Sola" ) ) );
+
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CONNECTED, 0, null, null ) );
+
+        assertThat( readModel.findById( 2 ) ).get().extracting( speaker -> speaker.lastName ).isEqualTo( "Sola" );
+        assertThat( readModel.status().connected() ).isTrue();
+        assertThat( registry.get( "speakerReadModelSize" ).gauge().value() ).isEqualTo( 2 );
+        assertThat( registry.get( "speakerReadModelStalenessSeconds" ).gauge().value() ).isZero();
+    }
+
+    @Test
+    public void changesAreAppliedWithoutCallingTheSpeakerService() {
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 1, "Pablo", "Solar" ) );
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.UPDATED, 1, "Pablo", "Sola" ) );
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 2, "Jordi", "Sola" ) );
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.DELETED, 2, "Jordi", "Sola" ) );
+
+        assertThat( readModel.findByIds( List.of( 1, 2 ) ) ).containsOnlyKeys( 1 );
+        assertThat( readModel.findById( 1 ) ).get().extracting( speaker -> speaker.lastName ).isEqualTo( "Sola" );
+        assertThat( registry.get( "speakerReadModelEvents" ).counter().count() ).isEqualTo( 4 );
+        Mockito.verifyNoInteractions( speakerService );
+    }
+
+    @Test
+    public void resyncDropsSpeakersThatNoLongerExist() {
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 1, "Pablo", "Solar" ) );
+        readModel.apply( new SpeakerChange( SpeakerChange.Type.CREATED, 2, "Jordi", "Sola" ) );
+        Mockito.when( speakerService.listAll() ).thenReturn( List.of( new Speaker( 2, "Jordi", "Sola" ) ) );
+
+        SpeakerReadModel.Status status = readModel.resync();
+
+        assertThat( status.speakers() ).isEqualTo( 1 );
+        assertThat( status.lastSync() ).isNotNull();
+        assertThat( readModel.findById( 1 ) ).isEmpty();
+    }
+}
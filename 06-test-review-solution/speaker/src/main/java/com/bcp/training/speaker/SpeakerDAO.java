@@ -8,6 +8,7 @@ import java.util.Optional;
 
 import com.bcp.training.speaker.idgenerator.IdGenerator;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 
 
@@ -22,9 +23,13 @@ public class SpeakerDAO {
     @Inject
     IdGenerator generator;
 
+    @Inject
+    Event<SpeakerChange> changes;
+
     public Speaker create( Speaker speaker ) {
         speaker.uuid = generator.generate();
         speaker.persist();
+        changes.fire( SpeakerChange.of( SpeakerChange.Type.CREATED, speaker ) );
         return speaker;
     }
 
@@ -32,13 +37,19 @@ public class SpeakerDAO {
         return Speaker.findAll( sort ).list();
     }
 
+    public Collection<Speaker> findByIds( Collection<Long> ids ) {
+        return Speaker.list( "id in ?1", ids );
+    }
+
     public Speaker update( Speaker updated ) {
         updated.persist();
+        changes.fire( SpeakerChange.of( SpeakerChange.Type.UPDATED, updated ) );
         return updated;
     }
 
     public void delete( Speaker speaker ) {
         speaker.delete();
+        changes.fire( SpeakerChange.of( SpeakerChange.Type.DELETED, speaker ) );
     }
 
     public Optional<Speaker> getByUuid( String uuid ) {
@@ -1,6 +1,7 @@
 package com.bcp.training.speaker;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -17,8 +18,11 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import org.jboss.resteasy.reactive.Separator;
 
 @Path( "/speaker" )
+@RunOnVirtualThread
 @Produces( MediaType.APPLICATION_JSON )
 @Consumes( MediaType.APPLICATION_JSON )
 public class SpeakerResource {
@@ -29,8 +33,11 @@ public class SpeakerResource {
     SpeakerDAO speakerDAO;
 
     @GET
-    public Collection<Speaker> listAll() {
-        return Speaker.listAll();
+    public Collection<Speaker> listAll( @QueryParam( "ids" ) @Separator( "," ) List<Long> ids ) {
+        if ( ids == null || ids.isEmpty() ) {
+            return Speaker.listAll();
+        }
+        return speakerDAO.findByIds( ids );
     }
 
     @GET
@@ -11,8 +11,10 @@ import java.util.UUID;
 public class DeterministicIdGenerator implements IdGenerator {
 
     private UUID nextUUID = new UUID( 0, 0 );
+    private volatile boolean generatedOnVirtualThread;
 
     public String generate() {
+        generatedOnVirtualThread = Thread.currentThread().isVirtual();
         UUID result = nextUUID;
         nextUUID = null;
         return result.toString();
@@ -22,4 +24,9 @@ public class DeterministicIdGenerator implements IdGenerator {
         this.nextUUID = nextUUID;
     }
 
+    // Whether the last id was generated on a virtual thread, i.e. by a request served on one
+    public boolean generatedOnVirtualThread() {
+        return generatedOnVirtualThread;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.bcp.training.speaker;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@QuarkusTest
+public class SpeakerResourcePinningTest {
+
+    @Inject
+    DeterministicIdGenerator idGenerator;
+
+    @Test
+    public void testRequestsRunOnVirtualThreadsWithoutPinning() {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try ( RecordingStream recording = new RecordingStream() ) {
+            recording.enable( "jdk.VirtualThreadPinned" ).withThreshold( Duration.ZERO );
+            recording.onEvent( "jdk.VirtualThreadPinned", pinned::add );
+            recording.startAsync();
+
+            idGenerator.setNextUUID( UUID.randomUUID() );
+            given()
+                    .body( "{\"nameFirst\": \"Pablo\",\"nameLast\": \"Diaz\"}" )
+                    .contentType( ContentType.JSON )
+                    .when()
+                    .post( "/speaker" )
+                    .then()
+                    .statusCode( 200 );
+
+            given()
+                    .when()
+                    .get( "/speaker" )
+                    .then()
+                    .statusCode( 200 );
+
+            recording.stop();
+        }
+
+        assertTrue( idGenerator.generatedOnVirtualThread(), "POST /speaker did not run on a virtual thread" );
+        assertTrue( pinned.isEmpty(), () -> "Virtual threads were pinned: " + pinned );
+    }
+}
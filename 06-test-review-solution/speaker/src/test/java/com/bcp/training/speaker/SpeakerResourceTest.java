@@ -3,15 +3,19 @@ package com.bcp.training.speaker;
 import io.quarkus.panache.mock.PanacheMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 
 
 @QuarkusTest
@@ -20,6 +24,9 @@ public class SpeakerResourceTest {
     @Inject
     DeterministicIdGenerator idGenerator;
 
+    @Inject
+    SpeakerChanges speakerChanges;
+
     @Test
     public void testNewSpeaker() {
 
@@ -55,4 +62,57 @@ public class SpeakerResourceTest {
                 .body( "size()", is( 0 ) );
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testListSpeakersByIds() {
+
+        List<Integer> ids = given()
+                .when()
+                .get( "/speaker" )
+                .then()
+                .statusCode( 200 )
+                .extract().jsonPath().getList( "id", Integer.class );
+
+        given()
+                .queryParam( "ids", ids.get( 0 ) + "," + ids.get( 1 ) + ",999999" )
+                .when()
+                .get( "/speaker" )
+                .then()
+                .statusCode( 200 )
+                .body( "size()", is( 2 ) )
+                .body( "id", containsInAnyOrder( ids.get( 0 ), ids.get( 1 ) ) );
+    }
+
+    @Test
+    public void testSpeakerChangesAreStreamed() {
+
+        AssertSubscriber<SpeakerChange> subscriber = speakerChanges.stream()
+                .subscribe().withSubscriber( AssertSubscriber.create( 10 ) );
+
+        UUID uuid = new UUID( 2, 2 );
+        idGenerator.setNextUUID( uuid );
+
+        given()
+                .body( "{\"nameFirst\": \"Ada\",\"nameLast\": \"Lovelace\"}" )
+                .contentType( ContentType.JSON )
+                .when()
+                .post( "/speaker" )
+                .then()
+                .statusCode( 200 );
+
+        given()
+                .when()
+                .delete( "/speaker/" + uuid )
+                .then()
+                .statusCode( 204 );
+
+        List<SpeakerChange> changes = subscriber.awaitItems( 3 ).getItems();
+        subscriber.cancel();
+
+        assertThat( changes ).extracting( change -> change.type ).containsExactly(
+                SpeakerChange.Type.CONNECTED, SpeakerChange.Type.CREATED, SpeakerChange.Type.DELETED );
+        assertThat( changes.get( 1 ).uuid ).isEqualTo( uuid.toString() );
+        assertThat( changes.get( 1 ).nameLast ).isEqualTo( "Lovelace" );
+        assertThat( changes.get( 2 ).id ).isEqualTo( changes.get( 1 ).id );
+    }
+
+}
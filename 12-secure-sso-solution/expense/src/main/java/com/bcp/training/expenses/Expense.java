@@ -1,11 +1,11 @@
 package com.bcp.training.expenses;
 
 import java.math.BigDecimal;
-import java.util.Optional;
 import java.util.UUID;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 
@@ -25,6 +25,9 @@ public class Expense extends PanacheEntityBase {
     public PaymentMethod paymentMethod;
     public BigDecimal amount;
 
+    @Version
+    public long version;
+
     public Expense() {
     }
 
@@ -44,18 +47,15 @@ public class Expense extends PanacheEntityBase {
     }
 
     public static void update( final Expense expense ) {
-        Optional<Expense> previous = Expense.findByIdOptional( expense.uuid );
-
-        previous.ifPresentOrElse( ( update ) -> {
-            update.uuid = expense.uuid;
-            update.name = expense.name;
-            update.amount = expense.amount;
-            update.paymentMethod = expense.paymentMethod;
-
-            update.persist();
-        }, () -> {
-            throw new WebApplicationException( Response.Status.NOT_FOUND );
-        } );
+        int updated = Expense.update(
+                "name = ?1, amount = ?2, paymentMethod = ?3, version = version + 1 where uuid = ?4 and version = ?5",
+                expense.name, expense.amount, expense.paymentMethod, expense.uuid, expense.version );
+
+        if ( updated == 0 ) {
+            throw new WebApplicationException( Expense.count( "uuid", expense.uuid ) == 0
+                    ? Response.Status.NOT_FOUND
+                    : Response.Status.CONFLICT );
+        }
     }
 
 }
\ No newline at end of file
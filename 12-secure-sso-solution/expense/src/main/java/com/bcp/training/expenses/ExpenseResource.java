@@ -21,8 +21,10 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
 import io.quarkus.security.identity.SecurityIdentity;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 @Path( "/expense" )
+@RunOnVirtualThread
 @Consumes( MediaType.APPLICATION_JSON )
 @Produces( MediaType.APPLICATION_JSON )
 public class ExpenseResource {
@@ -35,8 +37,8 @@ public class ExpenseResource {
 
     @GET
     @RolesAllowed( "read" )
-    public List<Expense> list() {
-        return Expense.listAll();
+    public List<ExpenseView> list() {
+        return Expense.findAll().project( ExpenseView.class ).list();
     }
 
     @POST
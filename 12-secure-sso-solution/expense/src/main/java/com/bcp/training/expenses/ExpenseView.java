@@ -0,0 +1,10 @@
+package com.bcp.training.expenses;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Read-only projection of Expense, filled straight from the query result
+// without creating managed entities
+public record ExpenseView( UUID uuid, String name, Expense.PaymentMethod paymentMethod, BigDecimal amount,
+                           long version ) {
+}
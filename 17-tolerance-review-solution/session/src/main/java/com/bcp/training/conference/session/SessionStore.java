@@ -30,6 +30,9 @@ public class SessionStore {
     @RestClient
     SpeakerService speakerService;
 
+    @Inject
+    SpeakerEnricher speakerEnricher;
+
     public int counter = 1;
 
     public SessionStore() {
@@ -41,8 +44,7 @@ public class SessionStore {
 
     public Collection<Session> findAllWithEnrichment(){
         List<Session> sessions = repository.findAll().list();
-        final List<SpeakerFromService> allSpeakers = speakerService.listAll();
-        sessions.stream().flatMap(s->s.speakers.stream()).forEach(sp->this.enrichSpeaker(allSpeakers, sp));
+        speakerEnricher.enrich(sessions);
         return sessions;
     }
 
@@ -93,30 +95,16 @@ public class SessionStore {
     public Optional<Session> findByIdWithEnrichedSpeakers(String sessionId) {
         Optional<Session> result = repository.find("id", sessionId).stream().findFirst();
 
-        List<SpeakerFromService> allSpeakers = null;
-
         // Simulate delay
         try {
             Thread.sleep(10000);
-            allSpeakers = speakerService.listAll();
-        } catch (Exception e) {}
-
+        } catch (InterruptedException e) {}
 
         Session session = result.get();
-        for (var speaker : session.speakers) {
-            enrichSpeaker(allSpeakers, speaker);
-        }
+        speakerEnricher.enrich(List.of(session));
         return result;
     }
 
-    private void enrichSpeaker(List<SpeakerFromService> allSpeakers, Speaker speaker) {
-        var serviceSpeaker = allSpeakers.stream().filter(s -> s.uuid.equals(speaker.uuid)).findFirst();
-        if (serviceSpeaker.isPresent()) {
-            var speakerFromService = serviceSpeaker.get();
-            Speaker.enrichFromService(speakerFromService, speaker);
-        }
-    }
-
     @Transactional
     public Optional<Session> deleteById(String sessionId) {
         Optional<Session> session = findById(sessionId);
@@ -0,0 +1,37 @@
+package com.bcp.training.conference.speaker;
+
+/**
+ * A speaker create, update or delete, published once its transaction has committed.
+ */
+public class SpeakerChange {
+
+    public enum Type {
+        // Sent first on every change stream, anything committed before it must be read with a full listing
+        CONNECTED,
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public Type type;
+    public Long id;
+    public String uuid;
+    public String nameFirst;
+    public String nameLast;
+
+    public static SpeakerChange connected() {
+        SpeakerChange change = new SpeakerChange();
+        change.type = Type.CONNECTED;
+        return change;
+    }
+
+    public static SpeakerChange of(Type type, Speaker speaker) {
+        SpeakerChange change = new SpeakerChange();
+        change.type = type;
+        change.id = speaker.id;
+        change.uuid = speaker.uuid;
+        change.nameFirst = speaker.nameFirst;
+        change.nameLast = speaker.nameLast;
+        return change;
+    }
+}
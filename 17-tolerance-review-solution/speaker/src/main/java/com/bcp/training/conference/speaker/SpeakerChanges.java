@@ -0,0 +1,35 @@
+package com.bcp.training.conference.speaker;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+/**
+ * Broadcasts committed speaker changes to every subscribed change stream.
+ */
+@ApplicationScoped
+public class SpeakerChanges {
+
+    // A subscriber this far behind is failed, it reconnects and resynchronizes instead
+    private static final int MAX_PENDING = 1024;
+
+    private final BroadcastProcessor<SpeakerChange> processor = BroadcastProcessor.create();
+
+    synchronized void onChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) SpeakerChange change) {
+        processor.onNext(change);
+    }
+
+    public Multi<SpeakerChange> stream() {
+        return Multi.createFrom().<SpeakerChange>emitter(emitter -> {
+                    Cancellable subscription = processor.subscribe()
+                            .with(emitter::emit, emitter::fail, emitter::complete);
+                    emitter.onTermination(subscription::cancel);
+                    emitter.emit(SpeakerChange.connected());
+                }, BackPressureStrategy.ERROR)
+                .onOverflow().buffer(MAX_PENDING);
+    }
+}
@@ -7,6 +7,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import io.quarkus.panache.common.Sort;
 
 /**
@@ -17,9 +19,13 @@ public class SpeakerDAO {
 
     private SpeakerIdGenerator generator = new SpeakerIdGenerator();
 
+    @Inject
+    Event<SpeakerChange> changes;
+
     public Speaker create (Speaker speaker) {
         speaker.uuid=generator.generate();
         speaker.persist();
+        changes.fire(SpeakerChange.of(SpeakerChange.Type.CREATED, speaker));
         return speaker;
     }
 
@@ -29,11 +35,13 @@ public class SpeakerDAO {
 
     public Speaker update (Speaker updated) {
         updated.persist();
+        changes.fire(SpeakerChange.of(SpeakerChange.Type.UPDATED, updated));
         return updated;
     }
 
     public void delete (Speaker speaker) {
         speaker.delete();
+        changes.fire(SpeakerChange.of(SpeakerChange.Type.DELETED, speaker));
     }
 
     public Optional<Speaker> getByUuid(String uuid) {
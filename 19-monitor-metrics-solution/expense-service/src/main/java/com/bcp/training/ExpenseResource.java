@@ -10,7 +10,9 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.time.StopWatch;
 
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -48,7 +50,7 @@ public class ExpenseResource {
 
     @GET
     @Counted(value = "callsToGetExpenses")
-    public Set<Expense> list() {
+    public Collection<Expense> list() {
         stopWatch.reset();
         stopWatch.start();
         return expenseService.list();
@@ -56,13 +58,29 @@ public class ExpenseResource {
 
     @DELETE
     @Path("{uuid}")
-    public Set<Expense> delete(@PathParam("uuid") UUID uuid) {
+    public Collection<Expense> delete(@PathParam("uuid") UUID uuid) {
         if (!expenseService.delete(uuid)) {
             throw new WebApplicationException(Response.Status.NOT_FOUND);
         }
         return expenseService.list();
     }
 
+    @GET
+    @Path("payment-method/{paymentMethod}")
+    public List<Expense> listByPaymentMethod(@PathParam("paymentMethod") Expense.PaymentMethod paymentMethod) {
+        return expenseService.findByPaymentMethod(paymentMethod);
+    }
+
+    @GET
+    @Path("created")
+    public List<Expense> listByCreationDate(@QueryParam("from") LocalDateTime from,
+                                            @QueryParam("to") LocalDateTime to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+        return expenseService.findByCreationDate(from, to);
+    }
+
     @PUT
     public void update(Expense expense) {
         expenseService.update(expense);
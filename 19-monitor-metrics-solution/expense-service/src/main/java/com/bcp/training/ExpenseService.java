@@ -2,43 +2,123 @@ package com.bcp.training;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.*;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @ApplicationScoped
 public class ExpenseService {
-    private Set<Expense> expenses = Collections.newSetFromMap(Collections.synchronizedMap(new HashMap<>()));
+    private static final UUID LOWEST_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final Map<UUID, Expense> expenses = new ConcurrentHashMap<>();
+
+    // Secondary indexes, only mutated from inside the compute of the owning uuid
+    private final Map<Expense.PaymentMethod, Set<UUID>> byPaymentMethod = new ConcurrentHashMap<>();
+    private final NavigableSet<Expense> byCreationDate = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Expense::getCreationDate).thenComparing(Expense::getUuid));
 
     @PostConstruct
     void init() {
-        expenses.add(new Expense("Quarkus for Spring Developers", Expense.PaymentMethod.DEBIT_CARD, "10.00"));
-        expenses.add(new Expense("OpenShift for Developers, Second Edition", Expense.PaymentMethod.DEBIT_CARD, "15.00"));
+        store(new Expense("Quarkus for Spring Developers", Expense.PaymentMethod.DEBIT_CARD, "10.00"));
+        store(new Expense("OpenShift for Developers, Second Edition", Expense.PaymentMethod.DEBIT_CARD, "15.00"));
     }
 
-    public Set<Expense> list() {
+    public Collection<Expense> list() {
         simulateMaxDelayInSeconds(1);
 
-        return expenses;
+        return expenses.values();
     }
 
     public Expense create(Expense expense) {
         simulateMaxDelayInSeconds(5);
 
-        expenses.add(expense);
-
-        return expense;
+        return store(expense);
     }
 
     public boolean delete(UUID uuid) {
-        return expenses.removeIf(expense -> expense.getUuid().equals(uuid));
+        AtomicBoolean removed = new AtomicBoolean();
+        expenses.computeIfPresent(uuid, (id, current) -> {
+            unindex(current);
+            removed.set(true);
+            return null;
+        });
+        return removed.get();
     }
 
     public void update(Expense expense) {
-        delete(expense.getUuid());
         create(expense);
     }
 
+    private Expense store(Expense expense) {
+        if (expense.getUuid() == null) {
+            expense.setUuid(UUID.randomUUID());
+        }
+        expenses.compute(expense.getUuid(), (uuid, previous) -> {
+            unindex(previous);
+            index(expense);
+            return expense;
+        });
+        return expense;
+    }
+
     public boolean exists(UUID uuid) {
-        return expenses.stream().anyMatch(exp -> exp.getUuid().equals(uuid));
+        return expenses.containsKey(uuid);
+    }
+
+    public List<Expense> findByPaymentMethod(Expense.PaymentMethod paymentMethod) {
+        return byPaymentMethod.getOrDefault(paymentMethod, Set.of()).stream()
+                .map(expenses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<Expense> findByCreationDate(LocalDateTime from, LocalDateTime to) {
+        return List.copyOf(byCreationDate.subSet(probe(from), true, probe(to), false));
+    }
+
+    private void index(Expense expense) {
+        if (expense.getPaymentMethod() != null) {
+            byPaymentMethod.compute(expense.getPaymentMethod(), (key, uuids) -> {
+                Set<UUID> result = uuids == null ? ConcurrentHashMap.newKeySet() : uuids;
+                result.add(expense.getUuid());
+                return result;
+            });
+        }
+        if (expense.getCreationDate() != null) {
+            byCreationDate.add(expense);
+        }
+    }
+
+    private void unindex(Expense expense) {
+        if (expense == null) {
+            return;
+        }
+        if (expense.getPaymentMethod() != null) {
+            byPaymentMethod.computeIfPresent(expense.getPaymentMethod(), (key, uuids) -> {
+                uuids.remove(expense.getUuid());
+                return uuids.isEmpty() ? null : uuids;
+            });
+        }
+        if (expense.getCreationDate() != null) {
+            byCreationDate.remove(expense);
+        }
+    }
+
+    private static Expense probe(LocalDateTime creationDate) {
+        Expense probe = new Expense();
+        probe.setUuid(LOWEST_UUID);
+        probe.setCreationDate(creationDate);
+        return probe;
     }
 
     private void simulateMaxDelayInSeconds(int maxDelay) {
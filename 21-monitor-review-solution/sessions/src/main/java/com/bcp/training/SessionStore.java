@@ -7,8 +7,6 @@ import java.util.Optional;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import org.eclipse.microprofile.rest.client.inject.RestClient;
-
 import io.quarkus.logging.Log;
 
 @ApplicationScoped
@@ -18,8 +16,7 @@ public class SessionStore {
     public SessionRepository repository;
 
     @Inject
-    @RestClient
-    SpeakerService speakerService;
+    SpeakerEnricher speakerEnricher;
 
     public Collection<Session> findAll() {
         Log.info( "Finding all sessions" );
@@ -28,21 +25,11 @@ public class SessionStore {
 
     public Collection<Session> findAllSessionsWithSpeakerInfo() {
         List<Session> sessions = repository.findAll();
-        Log.debug( "Gathering extended speaker information from 'speakers' service" );
-        List<SpeakerFromService> allSpeakers = speakerService.listAll();
-        sessions.stream().flatMap( s -> s.speakers.stream() ).forEach( sp -> this.enrichSpeaker( allSpeakers, sp ) );
+        speakerEnricher.enrich( sessions );
         Log.debug( "Added speakers information to session list" );
         return sessions;
     }
 
-    private void enrichSpeaker( List<SpeakerFromService> allSpeakers, Speaker speaker ) {
-        var serviceSpeaker = allSpeakers.stream().filter( s -> s.uuid.equals( speaker.uuid ) ).findFirst();
-        if ( serviceSpeaker.isPresent() ) {
-            var speakerFromService = serviceSpeaker.get();
-            Speaker.enrichFromService( speakerFromService, speaker );
-        }
-    }
-
     public Optional<Session> findById( String sessionId ) {
         return findByIdWithEnrichedSpeakers( sessionId );
     }
@@ -51,11 +38,7 @@ public class SessionStore {
         Optional<Session> result = repository.findById( sessionId ).stream().findFirst();
         Session session = result.get();
 
-        List<SpeakerFromService> allSpeakers = speakerService.listAll();
-
-        for ( var speaker : session.speakers ) {
-            enrichSpeaker( allSpeakers, speaker );
-        }
+        speakerEnricher.enrich( List.of( session ) );
         return result;
     }
 
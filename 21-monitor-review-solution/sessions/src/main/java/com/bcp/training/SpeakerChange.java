@@ -0,0 +1,33 @@
+package com.bcp.training;
+
+/**
+ * A speaker change as published on the speaker service change stream.
+ */
+public class SpeakerChange {
+
+    public enum Type {
+        CONNECTED,
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public Type type;
+    public String uuid;
+    public String nameFirst;
+    public String nameLast;
+
+    public SpeakerChange() {
+    }
+
+    public SpeakerChange( Type type, String uuid, String nameFirst, String nameLast ) {
+        this.type = type;
+        this.uuid = uuid;
+        this.nameFirst = nameFirst;
+        this.nameLast = nameLast;
+    }
+
+    public SpeakerFromService toSpeakerFromService() {
+        return SpeakerFromService.of( uuid, nameFirst, nameLast );
+    }
+}
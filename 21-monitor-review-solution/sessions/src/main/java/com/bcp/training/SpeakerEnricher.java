@@ -0,0 +1,91 @@
+package com.bcp.training;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import io.quarkus.logging.Log;
+
+/**
+ * Adds the speaker service names to session speakers through a {@link SpeakerIndex}. The index
+ * is the read model once it is loaded, speakers it does not know yet and every speaker before it
+ * is loaded are looked up in an index built from a single listAll() result, reused until it
+ * expires or is invalidated.
+ */
+@ApplicationScoped
+public class SpeakerEnricher {
+
+    @Inject
+    @RestClient
+    SpeakerService speakerService;
+
+    @Inject
+    SpeakerReadModel speakerReadModel;
+
+    @ConfigProperty( name = "speaker.enrichment.index-ttl", defaultValue = "30s" )
+    Duration indexTtl;
+
+    // Below this many speakers the fork/join overhead costs more than it saves
+    @ConfigProperty( name = "speaker.enrichment.parallel-threshold", defaultValue = "5000" )
+    int parallelThreshold;
+
+    private volatile SpeakerIndex remoteIndex;
+
+    public void enrich( Collection<Session> sessions ) {
+        if ( !speakerReadModel.isLoaded() ) {
+            enrich( sessions, remoteIndex() );
+            return;
+        }
+
+        List<Speaker> missing = enrich( sessions, speakerReadModel.index() );
+        // The model misses speakers after a dropped change event, until its next resync
+        if ( !missing.isEmpty() ) {
+            Log.debugf( "%d speakers are not in the read model, looking them up in the 'speakers' service", missing.size() );
+            enrichSpeakers( missing, remoteIndex() );
+        }
+    }
+
+    /**
+     * Returns the speakers the index does not know, they are left as they are.
+     */
+    List<Speaker> enrich( Collection<Session> sessions, SpeakerIndex index ) {
+        // Sessions share speakers, enrich each of them once
+        List<Speaker> speakers = sessions.stream()
+                .flatMap( session -> session.speakers.stream() )
+                .distinct()
+                .toList();
+        return enrichSpeakers( speakers, index );
+    }
+
+    private List<Speaker> enrichSpeakers( List<Speaker> speakers, SpeakerIndex index ) {
+        Stream<Speaker> stream = speakers.size() >= parallelThreshold ? speakers.parallelStream() : speakers.stream();
+        return stream.filter( speaker -> {
+                    Optional<SpeakerFromService> found = index.find( speaker.uuid );
+                    found.ifPresent( speakerFromService -> Speaker.enrichFromService( speakerFromService, speaker ) );
+                    return found.isEmpty();
+                } )
+                .toList();
+    }
+
+    private SpeakerIndex remoteIndex() {
+        SpeakerIndex index = remoteIndex;
+        if ( index == null || index.isOlderThan( indexTtl ) ) {
+            Log.debug( "Gathering extended speaker information from 'speakers' service" );
+            index = SpeakerIndex.of( speakerService.listAll() );
+            remoteIndex = index;
+        }
+        return index;
+    }
+
+    public void invalidate() {
+        remoteIndex = null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bcp.training;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Speakers from the speaker service keyed by uuid, so enriching a speaker is a single lookup.
+ */
+public final class SpeakerIndex {
+
+    private final Map<String, SpeakerFromService> byUuid;
+    private final Instant builtAt;
+
+    SpeakerIndex( Map<String, SpeakerFromService> byUuid, Instant builtAt ) {
+        this.byUuid = byUuid;
+        this.builtAt = builtAt;
+    }
+
+    public static SpeakerIndex of( Collection<SpeakerFromService> speakers ) {
+        Map<String, SpeakerFromService> byUuid = HashMap.newHashMap( speakers.size() );
+        for ( SpeakerFromService speaker : speakers ) {
+            // The first speaker wins, as it did when the list was scanned
+            if ( speaker.uuid != null ) {
+                byUuid.putIfAbsent( speaker.uuid, speaker );
+            }
+        }
+        return new SpeakerIndex( byUuid, Instant.now() );
+    }
+
+    public Optional<SpeakerFromService> find( String uuid ) {
+        return uuid == null ? Optional.empty() : Optional.ofNullable( byUuid.get( uuid ) );
+    }
+
+    public int size() {
+        return byUuid.size();
+    }
+
+    boolean isOlderThan( Duration age ) {
+        return !builtAt.plus( age ).isAfter( Instant.now() );
+    }
+}
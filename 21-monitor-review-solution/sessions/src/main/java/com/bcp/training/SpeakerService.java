@@ -11,6 +11,9 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import io.smallrye.mutiny.Multi;
 
 @Path( "/speaker" )
 @RegisterRestClient
@@ -27,4 +30,10 @@ public interface SpeakerService {
     @GET
     @Path( "/search" )
     public Collection<SpeakerFromService> search( @QueryParam( "query" ) String query, @QueryParam( "sort" ) String sort );
+
+    @GET
+    @Path( "/changes" )
+    @Produces( MediaType.SERVER_SENT_EVENTS )
+    @RestStreamElementType( MediaType.APPLICATION_JSON )
+    public Multi<SpeakerChange> changes();
 }
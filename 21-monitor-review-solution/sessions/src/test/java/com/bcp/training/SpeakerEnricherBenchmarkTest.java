@@ -0,0 +1,36 @@
+package com.bcp.training;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Times enriching sessions twice against speaker catalogues of growing size.
+ * Run with {@code mvn test -Dtest=SpeakerEnricherBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty( named = "benchmark", matches = "true" )
+public class SpeakerEnricherBenchmarkTest {
+
+    @ParameterizedTest
+    @ValueSource( ints = { 1_000, 10_000, 100_000 } )
+    public void benchmarkEnrichment( int catalogue ) {
+        SpeakerEnricherTest.CountingSpeakerService speakerService =
+                new SpeakerEnricherTest.CountingSpeakerService( catalogue );
+        SpeakerEnricher enricher = SpeakerEnricherTest.enricher( speakerService );
+        List<Session> sessions = SpeakerEnricherTest.sessions( catalogue );
+
+        long started = System.nanoTime();
+        enricher.enrich( sessions );
+        enricher.enrich( sessions );
+        long elapsedMs = Duration.ofNanos( System.nanoTime() - started ).toMillis();
+
+        assertEquals( 1, speakerService.listings.get() );
+        System.out.printf( "Enriched %d sessions against %d speakers twice in %d ms%n",
+                sessions.size(), catalogue, elapsedMs );
+    }
+}
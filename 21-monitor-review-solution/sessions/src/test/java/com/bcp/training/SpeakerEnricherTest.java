@@ -0,0 +1,127 @@
+package com.bcp.training;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Multi;
+
+public class SpeakerEnricherTest {
+
+    // Covers enriching sequentially and, above the parallel threshold, in parallel
+    @ParameterizedTest
+    @ValueSource( ints = { 1_000, 10_000 } )
+    public void testEnrichesEverySpeakerWithOneListing( int catalogue ) {
+        CountingSpeakerService speakerService = new CountingSpeakerService( catalogue );
+        SpeakerEnricher enricher = enricher( speakerService );
+        List<Session> sessions = sessions( catalogue );
+
+        enricher.enrich( sessions );
+        enricher.enrich( sessions );
+
+        assertEquals( 1, speakerService.listings.get() );
+        for ( Session session : sessions ) {
+            for ( Speaker speaker : session.speakers ) {
+                if ( speaker.uuid.startsWith( "unknown-" ) ) {
+                    assertNull( speaker.name );
+                } else {
+                    assertEquals( "First " + speaker.uuid + " Last", speaker.name );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLooksUpSpeakersMissingFromTheReadModel() {
+        CountingSpeakerService speakerService = new CountingSpeakerService( 10 );
+        SpeakerReadModel readModel = new SpeakerReadModel();
+        readModel.speakerService = speakerService;
+        readModel.registry = new SimpleMeterRegistry();
+        readModel.initMeters();
+        readModel.resync();
+        SpeakerEnricher enricher = enricher( speakerService, readModel );
+
+        // Created after the resync, its change event was missed
+        speakerService.speakers.add( SpeakerFromService.of( "s-new", "First s-new", "Last" ) );
+        Speaker known = Speaker.fromUUID( "s-1" );
+        Speaker missed = Speaker.fromUUID( "s-new" );
+        Speaker unknown = Speaker.fromUUID( "unknown" );
+
+        enricher.enrich( List.of( Session.fromId( "session" )
+                .addSpeaker( known )
+                .addSpeaker( missed )
+                .addSpeaker( unknown ) ) );
+
+        assertEquals( 2, speakerService.listings.get() );
+        assertEquals( "First s-1 Last", known.name );
+        assertEquals( "First s-new Last", missed.name );
+        assertNull( unknown.name );
+    }
+
+    // Each session has three speakers, the last one unknown to the speaker service
+    static List<Session> sessions( int catalogue ) {
+        return IntStream.range( 0, catalogue / 2 )
+                .mapToObj( i -> Session.fromId( "session-" + i )
+                        .addSpeaker( Speaker.fromUUID( "s-" + ( 2 * i ) ) )
+                        .addSpeaker( Speaker.fromUUID( "s-" + ( 2 * i + 1 ) ) )
+                        .addSpeaker( Speaker.fromUUID( "unknown-" + i ) ) )
+                .toList();
+    }
+
+    static SpeakerEnricher enricher( SpeakerService speakerService ) {
+        return enricher( speakerService, new SpeakerReadModel() );
+    }
+
+    private static SpeakerEnricher enricher( SpeakerService speakerService, SpeakerReadModel readModel ) {
+        SpeakerEnricher enricher = new SpeakerEnricher();
+        enricher.speakerService = speakerService;
+        enricher.speakerReadModel = readModel;
+        enricher.indexTtl = Duration.ofMinutes( 1 );
+        enricher.parallelThreshold = 5_000;
+        return enricher;
+    }
+
+    static class CountingSpeakerService implements SpeakerService {
+
+        final AtomicInteger listings = new AtomicInteger();
+        final List<SpeakerFromService> speakers = new ArrayList<>();
+
+        CountingSpeakerService( int catalogue ) {
+            for ( int i = 0; i < catalogue; i++ ) {
+                speakers.add( SpeakerFromService.of( "s-" + i, "First s-" + i, "Last" ) );
+            }
+        }
+
+        @Override
+        public List<SpeakerFromService> listAll() {
+            listings.incrementAndGet();
+            return speakers;
+        }
+
+        @Override
+        public Speaker getById( int id ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<SpeakerFromService> search( String query, String sort ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Multi<SpeakerChange> changes() {
+            return Multi.createFrom().empty();
+        }
+    }
+}
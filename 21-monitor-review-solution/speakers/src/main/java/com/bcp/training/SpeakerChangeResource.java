@@ -0,0 +1,27 @@
+package com.bcp.training;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import io.smallrye.mutiny.Multi;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+/**
+ * Streams speaker changes as server-sent events, kept apart from {@link SpeakerResource}
+ * because a stream must not hold a (virtual) thread for as long as it is open.
+ */
+@Path( "/speaker/changes" )
+public class SpeakerChangeResource {
+
+    @Inject
+    SpeakerChanges speakerChanges;
+
+    @GET
+    @Produces( MediaType.SERVER_SENT_EVENTS )
+    @RestStreamElementType( MediaType.APPLICATION_JSON )
+    public Multi<SpeakerChange> changes() {
+        return speakerChanges.stream();
+    }
+}
@@ -1,5 +1,6 @@
 package com.bcp.training;
 
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.BadRequestException;
@@ -19,8 +20,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 @Path( "/speaker" )
+@RunOnVirtualThread
 @Produces( MediaType.APPLICATION_JSON )
 @Consumes( MediaType.APPLICATION_JSON )
 public class SpeakerResource {
@@ -28,6 +31,9 @@ public class SpeakerResource {
     @Inject
     SpeakerFinder finder;
 
+    @Inject
+    Event<SpeakerChange> changes;
+
     @GET
     public Collection<Speaker> listAll() {
         return finder.all();
@@ -61,6 +67,7 @@ public class SpeakerResource {
     public Speaker create( Speaker speaker ) {
         speaker.uuid = generator.generate();
         speaker.persist();
+        changes.fire( SpeakerChange.of( SpeakerChange.Type.CREATED, speaker ) );
         return speaker;
     }
 
@@ -82,6 +89,7 @@ public class SpeakerResource {
 
     public Speaker update( Speaker updated ) {
         updated.persist();
+        changes.fire( SpeakerChange.of( SpeakerChange.Type.UPDATED, updated ) );
         return updated;
     }
 